@@ -0,0 +1,111 @@
+/*
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * Copyright © 2026 Jaxydog
+ *
+ * This file is part of Lodestone.
+ *
+ * Lodestone is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option)
+ * any later version.
+ *
+ * Lodestone is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for
+ * more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with Lodestone. If not, see
+ * <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.lodestone.benchmark;
+
+import dev.jaxydog.lodestone.Lodestone;
+import dev.jaxydog.lodestone.api.AutoLoader;
+import dev.jaxydog.lodestone.benchmark.Fixtures.First;
+import dev.jaxydog.lodestone.benchmark.Fixtures.Fourth;
+import dev.jaxydog.lodestone.benchmark.Fixtures.Second;
+import dev.jaxydog.lodestone.benchmark.Fixtures.Third;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks the registration of a deeply nested {@link AutoLoader} tree across many environments.
+ * <p>
+ * The benchmarked tree is described by {@link LoaderTree}, and contains 85 distinct loaders and 1,024 distinct values.
+ * As every loader must be a distinct class, {@link LoaderTree} is generated at build time by the
+ * {@code generateLoaderTree} task.
+ *
+ * @author Jaxydog
+ * @since 1.9.0
+ */
+@State(Scope.Benchmark)
+public class AutoLoaderBenchmark {
+
+    /**
+     * The root of the benchmarked loader tree.
+     *
+     * @since 1.9.0
+     */
+    private static final LoaderTree.Root ROOT = new LoaderTree.Root();
+
+    /**
+     * Creates a new instance of this benchmark.
+     *
+     * @since 1.9.0
+     */
+    public AutoLoaderBenchmark() {
+    }
+
+    /**
+     * Creates the benchmark environments.
+     * <p>
+     * Environments are registered globally, so this is only done once per JVM.
+     *
+     * @since 1.9.0
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        if (Lodestone.getInterfaces().contains(First.class)) return;
+
+        Lodestone.createEnvironment(First.class, First::loadFirst);
+        Lodestone.createEnvironment(Second.class, Second::loadSecond);
+        Lodestone.createEnvironment(Third.class, Third::loadThird);
+        Lodestone.createEnvironment(Fourth.class, Fourth::loadFourth);
+    }
+
+    /**
+     * Registers the tree for a single environment.
+     *
+     * @since 1.9.0
+     */
+    @Benchmark
+    public void registerSingle() {
+        ROOT.register(First.class);
+    }
+
+    /**
+     * Registers the tree for every environment.
+     *
+     * @since 1.9.0
+     */
+    @Benchmark
+    public void registerAll() {
+        ROOT.register();
+    }
+
+    /**
+     * Registers the tree for every environment, and then loads a single environment.
+     *
+     * @since 1.9.0
+     */
+    @Benchmark
+    public void registerAllAndLoad() {
+        ROOT.register();
+
+        Lodestone.load(First.class, Fixtures.MOD_ID);
+    }
+
+}
@@ -0,0 +1,122 @@
+/*
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * Copyright © 2026 Jaxydog
+ *
+ * This file is part of Lodestone.
+ *
+ * Lodestone is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option)
+ * any later version.
+ *
+ * Lodestone is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for
+ * more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with Lodestone. If not, see
+ * <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.lodestone.benchmark;
+
+import dev.jaxydog.lodestone.benchmark.Fixtures.Value;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.UndeclaredThrowableException;
+
+/**
+ * Compares reading a static field through reflection against reading it through a pre-resolved method handle, as
+ * done by an {@code AutoLoader}'s load plan.
+ *
+ * @author Jaxydog
+ * @since 1.9.0
+ */
+@State(Scope.Thread)
+public class FieldAccessBenchmark {
+
+    /**
+     * The field being read.
+     *
+     * @since 1.9.0
+     */
+    public static final Value VALUE = new Value("field_access");
+
+    /**
+     * The field's reflective handle.
+     *
+     * @since 1.9.0
+     */
+    private Field field;
+    /**
+     * The field's method handle, stored within a non-constant field just like a load plan step.
+     *
+     * @since 1.9.0
+     */
+    private MethodHandle getter;
+
+    /**
+     * Creates a new instance of this benchmark.
+     *
+     * @since 1.9.0
+     */
+    public FieldAccessBenchmark() {
+    }
+
+    /**
+     * Resolves the benchmark's field handles.
+     *
+     * @throws ReflectiveOperationException If the field could not be resolved.
+     * @since 1.9.0
+     */
+    @Setup(Level.Trial)
+    public void setup()
+        throws ReflectiveOperationException
+    {
+        this.field = FieldAccessBenchmark.class.getField("VALUE");
+        this.getter = MethodHandles.publicLookup()
+            .unreflectGetter(this.field)
+            .asType(MethodType.methodType(Object.class));
+    }
+
+    /**
+     * Reads the field through reflection.
+     *
+     * @return The field's value.
+     *
+     * @throws IllegalAccessException If the field is not accessible.
+     * @since 1.9.0
+     */
+    @Benchmark
+    public Object reflection()
+        throws IllegalAccessException
+    {
+        return this.field.get(null);
+    }
+
+    /**
+     * Reads the field through its method handle.
+     *
+     * @return The field's value.
+     *
+     * @since 1.9.0
+     */
+    @Benchmark
+    public Object methodHandle() {
+        try {
+            return (Object) this.getter.invokeExact();
+        } catch (RuntimeException | Error exception) {
+            throw exception;
+        } catch (Throwable throwable) {
+            throw new UndeclaredThrowableException(throwable);
+        }
+    }
+
+}
@@ -0,0 +1,201 @@
+/*
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * Copyright © 2026 Jaxydog
+ *
+ * This file is part of Lodestone.
+ *
+ * Lodestone is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option)
+ * any later version.
+ *
+ * Lodestone is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for
+ * more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with Lodestone. If not, see
+ * <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.lodestone.benchmark;
+
+import dev.jaxydog.lodestone.api.Loaded;
+import net.minecraft.util.Identifier;
+
+/**
+ * Shared fixtures used by Lodestone's benchmarks.
+ *
+ * @author Jaxydog
+ * @since 1.9.0
+ */
+final class Fixtures {
+
+    /**
+     * The mod identifier used by all benchmark values.
+     *
+     * @since 1.9.0
+     */
+    static final String MOD_ID = "lodestone_benchmark";
+
+    /**
+     * Prevents this class from being instantiated.
+     *
+     * @since 1.9.0
+     */
+    private Fixtures() {
+    }
+
+    /**
+     * Creates the given number of distinct benchmark values.
+     *
+     * @param count The number of values.
+     *
+     * @return The created values.
+     *
+     * @since 1.9.0
+     */
+    static Value[] createValues(int count) {
+        final Value[] values = new Value[count];
+
+        for (int index = 0; index < count; index += 1) values[index] = new Value("value_" + index);
+
+        return values;
+    }
+
+    /**
+     * A benchmark environment interface.
+     *
+     * @since 1.9.0
+     */
+    interface First extends Loaded {
+
+        /**
+         * Loads this value.
+         *
+         * @since 1.9.0
+         */
+        void loadFirst();
+
+    }
+
+    /**
+     * A benchmark environment interface.
+     *
+     * @since 1.9.0
+     */
+    interface Second extends Loaded {
+
+        /**
+         * Loads this value.
+         *
+         * @since 1.9.0
+         */
+        void loadSecond();
+
+    }
+
+    /**
+     * A benchmark environment interface.
+     *
+     * @since 1.9.0
+     */
+    interface Third extends Loaded {
+
+        /**
+         * Loads this value.
+         *
+         * @since 1.9.0
+         */
+        void loadThird();
+
+    }
+
+    /**
+     * A benchmark environment interface.
+     *
+     * @since 1.9.0
+     */
+    interface Fourth extends Loaded {
+
+        /**
+         * Loads this value.
+         *
+         * @since 1.9.0
+         */
+        void loadFourth();
+
+    }
+
+    /**
+     * A value that is loaded within every benchmark environment.
+     *
+     * @author Jaxydog
+     * @since 1.9.0
+     */
+    static final class Value
+        implements First, Second, Third, Fourth
+    {
+
+        /**
+         * The value's loader identifier.
+         *
+         * @since 1.9.0
+         */
+        private final Identifier loaderId;
+        /**
+         * The number of times this value has been loaded.
+         *
+         * @since 1.9.0
+         */
+        private int loads;
+
+        /**
+         * Creates a new {@link Value}.
+         *
+         * @param path The loader identifier's path.
+         *
+         * @since 1.9.0
+         */
+        Value(String path) {
+            this.loaderId = Identifier.of(MOD_ID, path);
+        }
+
+        /**
+         * Returns the number of times this value has been loaded.
+         *
+         * @return The number of loads.
+         *
+         * @since 1.9.0
+         */
+        int getLoads() {
+            return this.loads;
+        }
+
+        @Override
+        public Identifier getLoaderId() {
+            return this.loaderId;
+        }
+
+        @Override
+        public void loadFirst() {
+            this.loads += 1;
+        }
+
+        @Override
+        public void loadSecond() {
+            this.loads += 1;
+        }
+
+        @Override
+        public void loadThird() {
+            this.loads += 1;
+        }
+
+        @Override
+        public void loadFourth() {
+            this.loads += 1;
+        }
+
+    }
+
+}
@@ -0,0 +1,147 @@
+/*
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * Copyright © 2026 Jaxydog
+ *
+ * This file is part of Lodestone.
+ *
+ * Lodestone is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option)
+ * any later version.
+ *
+ * Lodestone is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for
+ * more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with Lodestone. If not, see
+ * <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.lodestone.benchmark;
+
+import dev.jaxydog.lodestone.api.EnvironmentOption;
+import dev.jaxydog.lodestone.benchmark.Fixtures.First;
+import dev.jaxydog.lodestone.benchmark.Fixtures.Value;
+import dev.jaxydog.lodestone.impl.LoaderEnvironment;
+import dev.jaxydog.lodestone.impl.LoaderEnvironmentRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Set;
+
+/**
+ * Benchmarks the registration and loading of entrypoints through a {@link LoaderEnvironmentRegistry}.
+ *
+ * @author Jaxydog
+ * @since 1.9.0
+ */
+@State(Scope.Thread)
+public class RegistryBenchmark {
+
+    /**
+     * The number of registered values.
+     *
+     * @since 1.9.0
+     */
+    @Param({ "10", "1000", "10000", "100000" })
+    public int size;
+
+    /**
+     * The registered values.
+     *
+     * @since 1.9.0
+     */
+    private Value[] values;
+
+    /**
+     * Creates a new instance of this benchmark.
+     *
+     * @since 1.9.0
+     */
+    public RegistryBenchmark() {
+    }
+
+    /**
+     * Creates the benchmark's values.
+     *
+     * @since 1.9.0
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        this.values = Fixtures.createValues(this.size);
+    }
+
+    /**
+     * Creates a new registry containing a single environment.
+     *
+     * @param options The environment's options.
+     *
+     * @return A new registry.
+     *
+     * @since 1.9.0
+     */
+    private static LoaderEnvironmentRegistry createRegistry(Set<EnvironmentOption> options) {
+        final LoaderEnvironmentRegistry registry = LoaderEnvironmentRegistry.create();
+
+        registry.register(new LoaderEnvironment<>(First.class, First::loadFirst, options));
+
+        return registry;
+    }
+
+    /**
+     * Registers every value one at a time.
+     *
+     * @return The populated registry.
+     *
+     * @since 1.9.0
+     */
+    @Benchmark
+    public LoaderEnvironmentRegistry register() {
+        final LoaderEnvironmentRegistry registry = createRegistry(Set.of());
+
+        for (final Value value : this.values) registry.addEntrypoint(First.class, value);
+
+        return registry;
+    }
+
+    /**
+     * Registers and then loads every value.
+     *
+     * @return The emptied registry.
+     *
+     * @since 1.9.0
+     */
+    @Benchmark
+    public LoaderEnvironmentRegistry registerAndLoad() {
+        final LoaderEnvironmentRegistry registry = createRegistry(Set.of());
+
+        for (final Value value : this.values) registry.addEntrypoint(First.class, value);
+
+        registry.loadEntrypoints(First.class, Fixtures.MOD_ID);
+
+        return registry;
+    }
+
+    /**
+     * Registers and then loads every value within a parallel environment.
+     *
+     * @return The emptied registry.
+     *
+     * @since 1.9.0
+     */
+    @Benchmark
+    public LoaderEnvironmentRegistry registerAndLoadParallel() {
+        final LoaderEnvironmentRegistry registry = createRegistry(Set.of(EnvironmentOption.PARALLEL));
+
+        for (final Value value : this.values) registry.addEntrypoint(First.class, value);
+
+        registry.loadEntrypoints(First.class, Fixtures.MOD_ID);
+
+        return registry;
+    }
+
+}
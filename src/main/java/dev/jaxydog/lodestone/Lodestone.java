@@ -19,10 +19,18 @@
 
 package dev.jaxydog.lodestone;
 
+import dev.jaxydog.lodestone.api.DataGenerating;
+import dev.jaxydog.lodestone.api.DataWriter;
+import dev.jaxydog.lodestone.api.EnvironmentOption;
+import dev.jaxydog.lodestone.api.LoadOrder;
+import dev.jaxydog.lodestone.api.LoadTimings;
 import dev.jaxydog.lodestone.api.Loaded;
-import dev.jaxydog.lodestone.impl.BundledLoader;
+import dev.jaxydog.lodestone.api.LoadingPriority;
+import dev.jaxydog.lodestone.impl.AsyncLoading;
+import dev.jaxydog.lodestone.impl.HotReloader;
 import dev.jaxydog.lodestone.impl.LoaderEnvironment;
 import dev.jaxydog.lodestone.impl.LoaderEnvironmentRegistry;
+import dev.jaxydog.lodestone.impl.LoadingProfiler;
 import net.fabricmc.api.ModInitializer;
 import net.fabricmc.loader.api.FabricLoader;
 import net.fabricmc.loader.api.ModContainer;
@@ -30,10 +38,14 @@ import org.jetbrains.annotations.ApiStatus.Internal;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 
 /**
@@ -66,6 +78,12 @@ public final class Lodestone
      * @since 1.0.0
      */
     private static final LoaderEnvironmentRegistry REGISTRY = LoaderEnvironmentRegistry.create();
+    /**
+     * The mod's shared data generation writer.
+     *
+     * @since 1.9.0
+     */
+    private static final DataWriter DATA_WRITER = new DataWriter();
 
     /**
      * Creates a new instance of this entrypoint.
@@ -84,6 +102,7 @@ public final class Lodestone
      * @param load A method that loads the given value.
      * @param <T> The type of the {@link Loaded} interface.
      *
+     * @throws IllegalStateException If Lodestone's registry has been frozen.
      * @since 1.0.0
      */
     public static <T extends Loaded> void createEnvironment(Class<? extends T> type, Consumer<? super T> load) {
@@ -96,6 +115,77 @@ public final class Lodestone
         }
     }
 
+    /**
+     * Creates and registers a new environment for the given {@link Loaded} interface.
+     * <p>
+     * This is used to implement custom {@link Loaded} interfaces.
+     *
+     * @param type The {@link Loaded} interface.
+     * @param load A method that loads the given value.
+     * @param options The environment's options.
+     * @param <T> The type of the {@link Loaded} interface.
+     *
+     * @throws IllegalStateException If Lodestone's registry has been frozen.
+     * @since 1.9.0
+     */
+    public static <T extends Loaded> void createEnvironment(
+        Class<? extends T> type, Consumer<? super T> load, EnvironmentOption... options
+    ) {
+        try {
+            REGISTRY.register(new LoaderEnvironment<>(type, load, Set.copyOf(Arrays.asList(options))));
+        } catch (IllegalArgumentException exception) {
+            LOGGER.error(exception.getLocalizedMessage());
+        } catch (NullPointerException exception) {
+            LOGGER.error("Attempted to register a null environment");
+        }
+    }
+
+    /**
+     * Creates and registers a new environment for the given {@link Loaded} interface, which prepares each value before
+     * loading it.
+     * <p>
+     * Each mod's values are prepared concurrently, then loaded once every value has been prepared. Preparation may
+     * perform expensive work, but must not modify any shared state.
+     *
+     * @param type The {@link Loaded} interface.
+     * @param prepare A method that prepares the given value.
+     * @param load A method that loads the given value.
+     * @param options The environment's options.
+     * @param <T> The type of the {@link Loaded} interface.
+     *
+     * @throws IllegalStateException If Lodestone's registry has been frozen.
+     * @since 1.9.0
+     */
+    public static <T extends Loaded> void createEnvironment(
+        Class<? extends T> type, Consumer<? super T> prepare, Consumer<? super T> load, EnvironmentOption... options
+    ) {
+        try {
+            REGISTRY.register(new LoaderEnvironment<>(type, prepare, load, Set.copyOf(Arrays.asList(options))));
+        } catch (IllegalArgumentException exception) {
+            LOGGER.error(exception.getLocalizedMessage());
+        } catch (NullPointerException exception) {
+            LOGGER.error("Attempted to register a null environment");
+        }
+    }
+
+    /**
+     * Sets the hook that is run for each previously loaded value of the given {@link Loaded} interface before it is
+     * reloaded.
+     * <p>
+     * Values are only ever reloaded within development environments when the game is started with the
+     * {@code lodestone.reload} system property set to {@code true}. The hook should undo any effects of the
+     * environment's loading method that would prevent the value from being loaded again.
+     *
+     * @param type The {@link Loaded} interface.
+     * @param unload A method that unloads the given value.
+     * @param <T> The type of the {@link Loaded} interface.
+     *
+     * @since 1.9.0
+     */
+    public static <T extends Loaded> void setUnloadHook(Class<? extends T> type, Consumer<? super T> unload) {
+        HotReloader.setUnloadHook(type, unload);
+    }
+
     /**
      * Returns a set containing all registered interface instances.
      *
@@ -108,6 +198,61 @@ public final class Lodestone
         return REGISTRY.getInterfaces();
     }
 
+    /**
+     * Returns whether an environment has been registered for the given {@link Loaded} interface.
+     *
+     * @param type The {@link Loaded} interface.
+     *
+     * @return Whether an environment has been registered.
+     *
+     * @since 1.9.0
+     */
+    public static boolean hasEnvironment(Class<? extends Loaded> type) {
+        return REGISTRY.has(type);
+    }
+
+    /**
+     * Returns whether Lodestone is recording loading timings.
+     * <p>
+     * Profiling is enabled by launching the game with the {@code lodestone.profile} system property set to
+     * {@code true}. If the {@code lodestone.profile.output} property is also set, a report is written to that path when
+     * the game exits.
+     *
+     * @return Whether Lodestone is recording loading timings.
+     *
+     * @since 1.9.0
+     */
+    public static boolean isProfiling() {
+        return LoadingProfiler.ENABLED;
+    }
+
+    /**
+     * Returns a snapshot of all loading timings recorded so far.
+     * <p>
+     * If profiling is disabled, the returned snapshot is always empty.
+     *
+     * @return A snapshot of all recorded loading timings.
+     *
+     * @since 1.9.0
+     */
+    public static LoadTimings getTimings() {
+        return LoadingProfiler.snapshot();
+    }
+
+    /**
+     * Returns the writer shared by all {@link DataGenerating} values.
+     * <p>
+     * Files written through the shared writer are written to disk once data generation finishes, or whenever
+     * {@link DataWriter#flush()} is called.
+     *
+     * @return The shared data generation writer.
+     *
+     * @since 1.9.0
+     */
+    public static DataWriter getDataWriter() {
+        return DATA_WRITER;
+    }
+
     /**
      * Registers a value for automatic registration.
      *
@@ -118,8 +263,57 @@ public final class Lodestone
      * @since 1.0.0
      */
     public static <T extends Loaded> void register(Class<? extends T> type, T value) {
+        register(type, value, LoadingPriority.DEFAULT);
+    }
+
+    /**
+     * Registers a value for automatic registration with the given loading priority.
+     * <p>
+     * The priority is only used by environments that load their values in parallel, where values with differing
+     * priorities are never loaded concurrently.
+     *
+     * @param type The {@link Loaded} interface.
+     * @param value The value to be registered.
+     * @param priority The value's loading priority.
+     * @param <T> The type of the {@link Loaded} interface.
+     *
+     * @since 1.9.0
+     */
+    public static <T extends Loaded> void register(Class<? extends T> type, T value, int priority) {
+        register(type, value, priority, LoadOrder.NONE);
+    }
+
+    /**
+     * Registers a value for automatic registration with the given loading order constraints.
+     *
+     * @param type The {@link Loaded} interface.
+     * @param value The value to be registered.
+     * @param order The value's loading order constraints.
+     * @param <T> The type of the {@link Loaded} interface.
+     *
+     * @since 1.9.0
+     */
+    public static <T extends Loaded> void register(Class<? extends T> type, T value, LoadOrder order) {
+        register(type, value, LoadingPriority.DEFAULT, order);
+    }
+
+    /**
+     * Registers a value for automatic registration with the given loading priority and loading order constraints.
+     * <p>
+     * Loading order constraints may refer to values registered by other mods. A value that must load after a value
+     * registered by a mod that has not yet been loaded is deferred until that mod is loaded.
+     *
+     * @param type The {@link Loaded} interface.
+     * @param value The value to be registered.
+     * @param priority The value's loading priority.
+     * @param order The value's loading order constraints.
+     * @param <T> The type of the {@link Loaded} interface.
+     *
+     * @since 1.9.0
+     */
+    public static <T extends Loaded> void register(Class<? extends T> type, T value, int priority, LoadOrder order) {
         try {
-            REGISTRY.addEntrypoint(type, value);
+            REGISTRY.addEntrypoint(type, value, priority, order);
         } catch (IllegalArgumentException exception) {
             LOGGER.error(exception.getLocalizedMessage());
         } catch (NullPointerException exception) {
@@ -138,7 +332,7 @@ public final class Lodestone
      */
     @SafeVarargs
     public static <T extends Loaded> void register(Class<? extends T> type, T... values) {
-        for (final T value : values) register(type, value);
+        registerAll(type, Arrays.asList(values).iterator());
     }
 
     /**
@@ -151,7 +345,7 @@ public final class Lodestone
      * @since 1.0.0
      */
     public static <T extends Loaded> void register(Class<? extends T> type, Iterator<? extends T> values) {
-        values.forEachRemaining(value -> register(type, value));
+        registerAll(type, values);
     }
 
     /**
@@ -164,7 +358,26 @@ public final class Lodestone
      * @since 1.0.0
      */
     public static <T extends Loaded> void register(Class<? extends T> type, Collection<? extends T> values) {
-        values.forEach(value -> register(type, value));
+        registerAll(type, values.iterator());
+    }
+
+    /**
+     * Registers the given values for automatic registration in a single batch, logging at most one error.
+     *
+     * @param type The {@link Loaded} interface.
+     * @param values The values to be registered.
+     * @param <T> The type of the {@link Loaded} interface.
+     *
+     * @since 1.9.0
+     */
+    private static <T extends Loaded> void registerAll(Class<? extends T> type, Iterator<? extends T> values) {
+        try {
+            final int rejected = REGISTRY.addEntrypoints(type, values, LoadingPriority.DEFAULT, LoadOrder.NONE);
+
+            if (rejected > 0) LOGGER.error("Attempted to register {} null values", rejected);
+        } catch (IllegalArgumentException exception) {
+            LOGGER.error(exception.getLocalizedMessage());
+        }
     }
 
     /**
@@ -250,15 +463,241 @@ public final class Lodestone
         modIds.forEach(modId -> load(type, modId));
     }
 
+    /**
+     * Loads the given previously loaded values again, without loading any other registered values.
+     * <p>
+     * This is only used when reloading classes during development.
+     *
+     * @param type The {@link Loaded} interface.
+     * @param values The values to be loaded again.
+     * @param <T> The type of the {@link Loaded} interface.
+     *
+     * @since 1.9.0
+     */
+    static <T extends Loaded> void reload(Class<? extends T> type, Collection<? extends T> values) {
+        try {
+            REGISTRY.reloadValues(type, values);
+        } catch (IllegalArgumentException exception) {
+            LOGGER.error(exception.getLocalizedMessage());
+        }
+    }
+
+    /**
+     * Asynchronously loads the target environment for the given mod identifier.
+     * <p>
+     * Environments created with {@link EnvironmentOption#PARALLEL} are loaded entirely on the asynchronous executor, as
+     * their values are already safe to load off of the main thread. All other environments are prepared on the
+     * asynchronous executor, then queued to be loaded on the main thread in the order that their preparation finished.
+     * <p>
+     * Lodestone never runs queued tasks by itself. The caller must run them from the main thread, either through
+     * {@link #await(CompletableFuture)} or by calling {@link #runQueuedTasks()} regularly, such as once per tick;
+     * otherwise, the returned future never completes.
+     *
+     * @param type The {@link Loaded} interface.
+     * @param modId The requesting mod's identifier.
+     * @param <T> The type of the {@link Loaded} interface.
+     *
+     * @return A future that completes once the environment has been loaded, or completes exceptionally if the
+     * environment has not been registered or a value fails to load.
+     *
+     * @since 1.9.0
+     */
+    public static <T extends Loaded> CompletableFuture<Void> loadAsync(Class<? extends T> type, String modId) {
+        final boolean parallel;
+
+        try {
+            parallel = REGISTRY.isParallel(type);
+        } catch (IllegalArgumentException exception) {
+            return CompletableFuture.failedFuture(exception);
+        }
+
+        if (parallel) return AsyncLoading.submit(() -> REGISTRY.loadEntrypoints(type, modId));
+
+        return AsyncLoading.supply(() -> REGISTRY.prepareEntrypoints(type, modId)).thenCompose(AsyncLoading::queue);
+    }
+
+    /**
+     * Asynchronously loads the target environment for the given mod identifiers.
+     *
+     * @param type The {@link Loaded} interface.
+     * @param modIds The requesting mod's identifiers.
+     * @param <T> The type of the {@link Loaded} interface.
+     *
+     * @return A future that completes once the environment has been loaded for every mod.
+     *
+     * @throws IllegalArgumentException If the given list of mod identifiers is empty.
+     * @see #loadAsync(Class, String)
+     * @since 1.9.0
+     */
+    public static <T extends Loaded> CompletableFuture<Void> loadAsync(
+        Class<? extends T> type, String... modIds
+    )
+        throws IllegalArgumentException
+    {
+        return loadAsync(type, Arrays.asList(modIds));
+    }
+
+    /**
+     * Asynchronously loads the target environment for the given mod identifiers.
+     * <p>
+     * Every mod is prepared at the same time, but environments that are not created with
+     * {@link EnvironmentOption#PARALLEL} are still loaded on the main thread in the order that the mods were given. A
+     * mod that fails to load does not prevent the mods after it from loading.
+     *
+     * @param type The {@link Loaded} interface.
+     * @param modIds The requesting mod's identifiers.
+     * @param <T> The type of the {@link Loaded} interface.
+     *
+     * @return A future that completes once the environment has been loaded for every mod.
+     *
+     * @throws IllegalArgumentException If the given list of mod identifiers is empty.
+     * @see #loadAsync(Class, String)
+     * @since 1.9.0
+     */
+    public static <T extends Loaded> CompletableFuture<Void> loadAsync(
+        Class<? extends T> type, Collection<String> modIds
+    )
+        throws IllegalArgumentException
+    {
+        if (modIds.isEmpty()) {
+            throw new IllegalArgumentException("At least one mod identifier must be supplied during loading");
+        }
+
+        final boolean parallel;
+
+        try {
+            parallel = REGISTRY.isParallel(type);
+        } catch (IllegalArgumentException exception) {
+            return CompletableFuture.failedFuture(exception);
+        }
+
+        if (parallel) {
+            return CompletableFuture.allOf(modIds.stream()
+                .map(modId -> loadAsync(type, modId))
+                .toArray(CompletableFuture[]::new));
+        }
+
+        final CompletableFuture<?>[] futures = new CompletableFuture<?>[modIds.size()];
+        CompletableFuture<Void> previous = CompletableFuture.completedFuture(null);
+        int index = 0;
+
+        for (final String modId : modIds) {
+            final CompletableFuture<Runnable> prepared = AsyncLoading.supply(
+                () -> REGISTRY.prepareEntrypoints(type, modId)
+            );
+
+            // Each load is only queued once the previous mod has finished loading, whether or not it succeeded, so that
+            // loads run in the requested order rather than the order that preparation happens to finish in.
+            previous = previous.handle((ignored, exception) -> null)
+                .thenCombine(prepared, (ignored, load) -> load)
+                .thenCompose(AsyncLoading::queue);
+
+            futures[index] = previous;
+            index += 1;
+        }
+
+        return CompletableFuture.allOf(futures);
+    }
+
+    /**
+     * Sets the executor that asynchronous loading work is run on.
+     * <p>
+     * By default, each task is run on its own virtual thread.
+     *
+     * @param executor The executor.
+     *
+     * @since 1.9.0
+     */
+    public static void setAsyncExecutor(Executor executor) {
+        try {
+            AsyncLoading.setExecutor(executor);
+        } catch (NullPointerException exception) {
+            LOGGER.error("Attempted to set a null executor");
+        }
+    }
+
+    /**
+     * Queues the given task to be run on the main thread.
+     * <p>
+     * This allows values loaded off of the main thread to hand work that must run on the main thread, such as writing
+     * to a vanilla registry, back to it. Queued tasks are run in the order they were queued.
+     *
+     * @param task The task.
+     *
+     * @return A future that completes once the task has been run.
+     *
+     * @throws NullPointerException If the given task is null.
+     * @since 1.9.0
+     */
+    public static CompletableFuture<Void> queueTask(Runnable task) throws NullPointerException {
+        return AsyncLoading.queue(task);
+    }
+
+    /**
+     * Runs every task currently queued for the main thread, in the order they were queued.
+     * <p>
+     * This should only be called from the main thread.
+     *
+     * @return The number of tasks that were run.
+     *
+     * @since 1.9.0
+     */
+    public static int runQueuedTasks() {
+        return AsyncLoading.runQueuedTasks();
+    }
+
+    /**
+     * Runs queued main thread tasks until the given future completes, then returns its result.
+     * <p>
+     * This should only be called from the main thread, and must be used in place of {@link CompletableFuture#join()}
+     * for futures returned by {@link #loadAsync(Class, String)}, as those may depend on queued tasks.
+     *
+     * @param future The future.
+     * @param <T> The type of the future's result.
+     *
+     * @return The future's result.
+     *
+     * @throws CompletionException If the future completed exceptionally.
+     * @since 1.9.0
+     */
+    public static <T> T await(CompletableFuture<T> future) throws CompletionException {
+        return AsyncLoading.await(future);
+    }
+
+    /**
+     * Freezes Lodestone's registry, after which creating a new environment throws an {@link IllegalStateException}.
+     * <p>
+     * Values may still be registered and loaded for existing environments. This should only be called once every mod
+     * has had the chance to create its environments.
+     *
+     * @since 1.9.0
+     */
+    public static void freeze() {
+        REGISTRY.freeze();
+    }
+
+    /**
+     * Compacts Lodestone's registry, releasing any storage left over from previously loaded entrypoints.
+     * <p>
+     * Entrypoints are already released as they load, so this is only useful for reclaiming the registry's own
+     * bookkeeping. It should be called once, after the final environment has been loaded, and never while values are
+     * still being registered. Compacting the registry also {@link #freeze() freezes} it.
+     *
+     * @since 1.9.0
+     */
+    public static void compact() {
+        REGISTRY.compact();
+    }
+
     @Override
     public void onInitialize() {
         final ModContainer mod = FabricLoader.getInstance().getModContainer(MOD_ID).orElseThrow();
         final String name = mod.getMetadata().getName();
         final String version = mod.getMetadata().getVersion().getFriendlyString();
 
-        final List<String> bundled = getInterfaces().stream()
-            .filter(c -> c.isAnnotationPresent(BundledLoader.class))
-            .map(Class::getSimpleName)
+        final List<String> bundled = REGISTRY.getEnvironments().stream()
+            .filter(LoaderEnvironment::isBundled)
+            .map(LoaderEnvironment::getName)
             .toList();
 
         if (bundled.isEmpty()) {
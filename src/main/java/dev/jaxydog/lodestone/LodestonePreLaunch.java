@@ -22,13 +22,21 @@ package dev.jaxydog.lodestone;
 import dev.jaxydog.lodestone.api.ClientLoaded;
 import dev.jaxydog.lodestone.api.CommonLoaded;
 import dev.jaxydog.lodestone.api.DataGenerating;
+import dev.jaxydog.lodestone.api.DataWriter;
+import dev.jaxydog.lodestone.api.EnvironmentOption;
 import dev.jaxydog.lodestone.api.ServerLoaded;
+import dev.jaxydog.lodestone.impl.HotReloader;
+import dev.jaxydog.lodestone.impl.LoadBudget;
 import dev.jaxydog.lodestone.impl.LoaderEnvironmentRegistry;
+import dev.jaxydog.lodestone.impl.LoadingProfiler;
+import dev.jaxydog.lodestone.impl.PlanCache;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.loader.api.FabricLoader;
 import net.fabricmc.loader.api.entrypoint.PreLaunchEntrypoint;
 import org.jetbrains.annotations.ApiStatus.Internal;
 
+import java.io.IOException;
+
 /**
  * Lodestone's pre-launch entrypoint.
  * <p>
@@ -55,20 +63,77 @@ public final class LodestonePreLaunch
     public void onPreLaunch() {
         Lodestone.LOGGER.info("Initializing basic Lodestone environments");
 
-        Lodestone.createEnvironment(CommonLoaded.class, CommonLoaded::loadCommon);
+        if (LoadingProfiler.ENABLED) {
+            Lodestone.LOGGER.info("Lodestone profiling is enabled");
+
+            LoadingProfiler.installReportHook();
+        }
+
+        if (PlanCache.ENABLED) {
+            Lodestone.LOGGER.info("Lodestone plan caching is enabled");
+
+            PlanCache.install();
+        }
+
+        if (LoadBudget.ENABLED) {
+            Lodestone.LOGGER.info("Lodestone load budgeting is enabled");
+
+            LoadBudget.install();
+        }
+
+        if (HotReloader.ENABLED) {
+            Lodestone.LOGGER.info("Lodestone hot reloading is enabled");
+
+            HotReloader.install(Lodestone::reload);
+        }
+
+        Lodestone.createEnvironment(CommonLoaded.class, CommonLoaded::prepareCommon, CommonLoaded::loadCommon);
 
         if (FabricLoader.getInstance().getEnvironmentType().equals(EnvType.CLIENT)) {
-            Lodestone.createEnvironment(ClientLoaded.class, ClientLoaded::loadClient);
+            Lodestone.createEnvironment(ClientLoaded.class, ClientLoaded::prepareClient, ClientLoaded::loadClient);
         } else {
-            Lodestone.createEnvironment(ServerLoaded.class, ServerLoaded::loadServer);
+            Lodestone.createEnvironment(ServerLoaded.class, ServerLoaded::prepareServer, ServerLoaded::loadServer);
         }
 
         // The `fabric-api.datagen` property is used to enable data generation.
         if (System.getProperties().containsKey("fabric-api.datagen")) {
-            Lodestone.createEnvironment(DataGenerating.class, DataGenerating::generate);
+            if (Boolean.getBoolean("lodestone.datagen.parallel")) {
+                Lodestone.LOGGER.info("Lodestone parallel data generation is enabled");
+
+                Lodestone.createEnvironment(
+                    DataGenerating.class, DataGenerating::prepareGeneration, DataGenerating::generate,
+                    EnvironmentOption.PARALLEL, EnvironmentOption.BOUNDED
+                );
+            } else {
+                Lodestone.createEnvironment(
+                    DataGenerating.class, DataGenerating::prepareGeneration, DataGenerating::generate
+                );
+            }
+
+            Runtime.getRuntime().addShutdownHook(new Thread(LodestonePreLaunch::flushData, "Lodestone Data Writer"));
         }
 
         LoaderEnvironmentRegistry.FORBID_BUNDLED.set(true);
     }
 
+    /**
+     * Writes any data generated through {@link Lodestone#getDataWriter()} that has not yet been flushed.
+     *
+     * @since 1.9.0
+     */
+    private static void flushData() {
+        final DataWriter writer = Lodestone.getDataWriter();
+
+        if (writer.size() == 0) return;
+
+        try {
+            final int buffered = writer.size();
+            final int written = writer.flush();
+
+            Lodestone.LOGGER.info("Wrote {} generated files, {} were unchanged", written, buffered - written);
+        } catch (IOException exception) {
+            Lodestone.LOGGER.error("Unable to write generated files: {}", exception.getLocalizedMessage());
+        }
+    }
+
 }
@@ -21,18 +21,22 @@ package dev.jaxydog.lodestone.api;
 
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectArrayMap;
 import net.minecraft.util.Identifier;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.function.Supplier;
 
 /**
  * A generic class that wraps a value of type {@code T}, providing a simple interface for applying arbitrary load
  * methods to generic values. This is typically used alongside an {@link AutoLoader} class.
  * <p>
- * The inner value can be retrieved using the {@link #getValue()} method.
+ * The inner value can be retrieved using the {@link #getValue()} method. Values that are expensive to create may
+ * instead be wrapped {@link #lazy(Identifier, Supplier) lazily}, in which case they are only created when first
+ * requested.
  *
  * @param <T> The type of the value stored within this class.
  *
@@ -50,11 +54,17 @@ public class AutoLoaded<T>
      */
     private final Identifier loaderId;
     /**
-     * The inner value.
+     * The inner value, or null if it has not yet been created.
      *
      * @since 1.8.0
      */
-    private final T value;
+    private volatile @Nullable T value;
+    /**
+     * The function used to create the inner value, or null if it has already been created.
+     *
+     * @since 1.9.0
+     */
+    private @Nullable Supplier<? extends T> supplier;
 
     /**
      * The inner list of loading methods.
@@ -62,6 +72,15 @@ public class AutoLoaded<T>
      * @since 1.8.0
      */
     protected final Map<Class<? extends Loaded>, List<LoadMethod<T>>> loadMethods = new Object2ObjectOpenHashMap<>();
+    /**
+     * A frozen copy of {@link #loadMethods}, built once loading begins and discarded if another method is added.
+     * <p>
+     * The copy is fully built before it is assigned, so this is volatile to ensure that other threads never observe a
+     * partially built copy.
+     *
+     * @since 1.9.0
+     */
+    private volatile @Nullable Map<Class<? extends Loaded>, LoadMethod<T>[]> frozenLoadMethods;
 
     /**
      * Creates a new {@link AutoLoaded} value.
@@ -80,14 +99,89 @@ public class AutoLoaded<T>
     }
 
     /**
-     * Returns this wrapper's inner value.
+     * Creates a new lazily initialized {@link AutoLoaded} value.
+     * <p>
+     * This allows subclasses to be lazily initialized. Otherwise, {@link #lazy(Identifier, Supplier)} should be used.
+     *
+     * @param loaderId The loader {@link Identifier}.
+     * @param supplier The function used to create the inner value.
+     *
+     * @throws NullPointerException If the given supplier is null.
+     * @see #lazy(Identifier, Supplier)
+     * @since 1.9.0
+     */
+    protected AutoLoaded(Identifier loaderId, Supplier<? extends T> supplier)
+        throws NullPointerException
+    {
+        this.loaderId = loaderId;
+        this.supplier = Objects.requireNonNull(supplier);
+    }
+
+    /**
+     * Creates a new {@link AutoLoaded} value whose inner value is only created once it is first requested.
+     * <p>
+     * The given supplier is called at most once, even if the value is requested from several threads at the same time.
+     * As load methods are only run within active environments, values that are only used by inactive environments are
+     * never created.
+     *
+     * @param loaderId The loader {@link Identifier}.
+     * @param supplier The function used to create the inner value.
+     * @param <T> The type of the inner value.
+     *
+     * @return A new lazily initialized {@link AutoLoaded} value.
+     *
+     * @throws NullPointerException If the given supplier is null.
+     * @since 1.9.0
+     */
+    public static <T> AutoLoaded<T> lazy(Identifier loaderId, Supplier<? extends T> supplier)
+        throws NullPointerException
+    {
+        return new AutoLoaded<>(loaderId, supplier);
+    }
+
+    /**
+     * Returns this wrapper's inner value, creating it if necessary.
      *
      * @return The inner value.
      *
+     * @throws NullPointerException If the value is lazily initialized and its supplier returns null.
      * @since 1.8.0
      */
-    public final T getValue() {
-        return this.value;
+    public final T getValue()
+        throws NullPointerException
+    {
+        final T value = this.value;
+
+        if (value != null) return value;
+
+        synchronized (this) {
+            T current = this.value;
+
+            if (current == null) {
+                final Supplier<? extends T> supplier = Objects.requireNonNull(this.supplier);
+
+                current = Objects.requireNonNull(supplier.get(), "Lazy value supplier returned null");
+
+                this.value = current;
+                // The supplier is no longer needed, so any state that it captured may be collected.
+                this.supplier = null;
+            }
+
+            return current;
+        }
+    }
+
+    /**
+     * Returns whether this wrapper's inner value has been created.
+     * <p>
+     * This is always true for values that are not lazily initialized.
+     *
+     * @return Whether the inner value has been created.
+     *
+     * @since 1.9.0
+     */
+    public final boolean isInitialized() {
+        return this.value != null;
     }
 
     /**
@@ -108,33 +202,54 @@ public class AutoLoaded<T>
 
         methods.add(Objects.requireNonNull(method));
 
+        this.frozenLoadMethods = null;
+
         return this;
     }
 
     /**
-     * Returns the methods assigned to the given {@link Loaded} interface.
+     * Runs the methods assigned to the given {@link Loaded} interface, in the order that they were added.
+     * <p>
+     * The first call freezes this wrapper's methods into an immutable table, so that later calls do not allocate.
      *
-     * @param type The {@link Loaded} interface for which to return methods.
+     * @param type The {@link Loaded} interface for which to run methods.
      *
-     * @return An optional list of methods.
-     *
-     * @since 1.8.0
+     * @since 1.9.0
      */
-    final Optional<List<LoadMethod<T>>> getLoadMethods(Class<? extends Loaded> type) {
-        return Optional.ofNullable(this.loadMethods.get(type));
+    final void runLoadMethods(Class<? extends Loaded> type) {
+        final LoadMethod<T>[] methods = this.getFrozenLoadMethods().get(type);
+
+        if (methods == null) return;
+
+        for (final LoadMethod<T> method : methods) method.load(this);
     }
 
     /**
-     * Returns the methods assigned to the given {@link Loaded} interface, bound to this {@link AutoLoaded} wrapper.
+     * Returns a frozen copy of this wrapper's methods, building it if necessary.
+     * <p>
+     * Wrappers are only ever assigned methods for a few interfaces, so the copy is a small array map that is searched
+     * by identity.
      *
-     * @param type The {@link Loaded} interface for which to return methods.
+     * @return The frozen methods.
      *
-     * @return An optional list of methods.
-     *
-     * @since 1.8.0
+     * @since 1.9.0
      */
-    final Optional<List<Runnable>> getBoundLoadMethods(Class<? extends Loaded> type) {
-        return this.getLoadMethods(type).map(list -> list.stream().map(method -> method.bind(this)).toList());
+    @SuppressWarnings("unchecked")
+    private Map<Class<? extends Loaded>, LoadMethod<T>[]> getFrozenLoadMethods() {
+        Map<Class<? extends Loaded>, LoadMethod<T>[]> frozen = this.frozenLoadMethods;
+
+        if (frozen == null) {
+            final int size = this.loadMethods.size();
+            final Map<Class<? extends Loaded>, LoadMethod<T>[]> copy = new Reference2ObjectArrayMap<>(size);
+
+            this.loadMethods.forEach((type, list) -> copy.put(type, list.toArray(LoadMethod[]::new)));
+
+            frozen = copy;
+
+            this.frozenLoadMethods = frozen;
+        }
+
+        return frozen;
     }
 
     @Override
@@ -167,7 +282,12 @@ public class AutoLoaded<T>
          * @param wrapper The wrapper to bind.
          *
          * @return An aliased runnable.
+         *
+         * @deprecated Allocates a new runnable for every call, and is no longer used by Lodestone. Call
+         *     {@link #load(AutoLoaded)} directly instead.
+         * @since 1.8.0
          */
+        @Deprecated(since = "1.9.0")
         default Runnable bind(AutoLoaded<T> wrapper) {
             return () -> this.load(wrapper);
         }
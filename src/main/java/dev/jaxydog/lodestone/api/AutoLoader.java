@@ -19,16 +19,27 @@
 
 package dev.jaxydog.lodestone.api;
 
+import com.google.common.collect.ImmutableList;
 import dev.jaxydog.lodestone.Lodestone;
+import dev.jaxydog.lodestone.api.LoadTiming.Phase;
+import dev.jaxydog.lodestone.impl.HotReloader;
+import dev.jaxydog.lodestone.impl.LoadingProfiler;
+import it.unimi.dsi.fastutil.objects.ObjectLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.minecraft.util.Identifier;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.lang.reflect.AccessFlag;
-import java.lang.reflect.Field;
+import java.util.ArrayDeque;
 import java.util.Arrays;
-import java.util.Comparator;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
-import java.util.function.BiConsumer;
 
 /**
  * A class that automatically loads all of its registered static constants.
@@ -44,21 +55,6 @@ public abstract class AutoLoader
     implements Loaded
 {
 
-    /**
-     * A comparator that sorts fields by their annotated loading priority.
-     *
-     * @since 1.0.0
-     */
-    private static final Comparator<Field> PRIORITY_ORDER = Comparator.comparingInt((Field field) -> {
-        if (field.isAnnotationPresent(LoadingPriority.class)) {
-            return field.getAnnotation(LoadingPriority.class).value();
-        } else if (field.getType().isAnnotationPresent(LoadingPriority.class)) {
-            return field.getType().getAnnotation(LoadingPriority.class).value();
-        } else {
-            return LoadingPriority.DEFAULT;
-        }
-    }).reversed();
-
     /**
      * This loader's logger instance.
      *
@@ -67,70 +63,167 @@ public abstract class AutoLoader
     protected final Logger logger = LoggerFactory.getLogger(this.getLoaderId().toString().replaceAll(":", "/"));
 
     /**
-     * Iterates over all valid fields within this class, providing them to the given consumer.
+     * Walks this loader and every nested loader, registering all valid fields for each of the pass' active interfaces.
+     * <p>
+     * Nested loaders are walked depth-first using an explicit stack, so that fields are registered in the same order
+     * as a recursive walk without deep loader trees exhausting the call stack. Each field is only read once per pass,
+     * no matter how many {@link Loaded} interfaces it is registered for, and each loader is only walked once per pass
+     * for each interface, even if it is reachable from several parents or from itself.
      *
-     * @param type The {@link Loaded} interface.
-     * @param consumer The field consumer.
-     * @param <T> The type of the {@link Loaded} interface.
+     * @param pass The current registration pass.
      *
      * @since 1.0.0
      */
-    @SuppressWarnings("unchecked")
-    private <T extends Loaded> void iterate(Class<? extends T> type, BiConsumer<Field, ? super T> consumer) {
-        for (final Field field : Arrays.stream(this.getClass().getFields()).sorted(PRIORITY_ORDER).toList()) {
-            // Ensure the field is public, static, and final.
-            if (!field.accessFlags().contains(AccessFlag.PUBLIC)) continue;
-            if (!field.accessFlags().contains(AccessFlag.STATIC)) continue;
-            if (!field.accessFlags().contains(AccessFlag.FINAL)) continue;
+    private void iterate(Pass pass) {
+        final Deque<Frame> stack = new ArrayDeque<>();
 
-            // Ensure the field should not be ignored.
-            if (field.isAnnotationPresent(IgnoreLoading.class)) {
-                final IgnoreLoading annotation = field.getAnnotation(IgnoreLoading.class);
-                final Set<Class<? extends Loaded>> types = Set.of(annotation.value());
+        Frame.push(stack, pass, this, pass.all());
+
+        while (!stack.isEmpty()) {
+            final Frame frame = stack.peek();
 
-                if (types.isEmpty() || types.contains(type)) continue;
+            // Nested loaders are registered once their own fields have been, matching the order of a recursive walk.
+            if (frame.pending != null) {
+                frame.loader.registerAll(pass, frame.pending, frame.pendingValue, frame.pendingIndices);
+                frame.pending = null;
+                frame.pendingValue = null;
             }
 
-            // Make sure we invoke internal autoloader instances.
-            if (AutoLoader.class.isAssignableFrom(field.getType())) {
-                try {
-                    ((AutoLoader) field.get(null)).iterate(type, consumer);
-                } catch (IllegalAccessException | IllegalArgumentException exception) {
-                    final String className = this.getClass().getSimpleName();
-                    final String fieldName = field.getName();
-                    final String message = exception.getLocalizedMessage();
-
-                    this.logger.error("Unable to access loader '{}#{}': {}", className, fieldName, message);
-                }
-            } else if (AutoLoaded.class.isAssignableFrom(field.getType())) {
-                try {
-                    final AutoLoaded<?> wrapper = (AutoLoaded<?>) field.get(null);
-
-                    wrapper.getBoundLoadMethods(type).ifPresent(list -> list.forEach(Runnable::run));
-                } catch (IllegalAccessException | IllegalArgumentException exception) {
-                    final String className = this.getClass().getSimpleName();
-                    final String fieldName = field.getName();
-                    final String message = exception.getLocalizedMessage();
-
-                    this.logger.error("Unable to access wrapper '{}#{}': {}", className, fieldName, message);
-                }
+            if (frame.position >= frame.steps.length) {
+                stack.pop();
+
+                continue;
             }
 
-            // Ensure the field is an instance of the given type.
-            if (!type.isAssignableFrom(field.getType())) continue;
+            final LoadPlan.Step step = frame.steps[frame.position];
+
+            frame.position += 1;
+
+            // Ensure the field should not be ignored.
+            final int[] indices = step.ignored().isEmpty() ? frame.active : pass.filterIgnored(step, frame.active);
+
+            if (indices.length == 0 || step.isRestricted()) continue;
+
+            // Skip reading fields that will never be used within any of the active environments.
+            if (!step.loader() && !step.wrapper() && !pass.anyProvided(step, indices)) continue;
+
+            final Object value;
 
             try {
-                consumer.accept(field, (T) field.get(null));
+                value = step.read();
             } catch (IllegalAccessException | IllegalArgumentException exception) {
-                final String className = this.getClass().getSimpleName();
-                final String fieldName = field.getName();
+                final String kind = step.getKind();
+                final String className = frame.loader.getClass().getSimpleName();
+                final String fieldName = step.name();
                 final String message = exception.getLocalizedMessage();
 
-                this.logger.error("Unable to access field '{}#{}': {}", className, fieldName, message);
+                frame.loader.logger.error("Unable to access {} '{}#{}': {}", kind, className, fieldName, message);
+
+                continue;
+            }
+
+            // Make sure we invoke internal autoloader instances.
+            if (step.loader()) {
+                frame.pending = step;
+                frame.pendingValue = value;
+                frame.pendingIndices = indices;
+
+                Frame.push(stack, pass, (AutoLoader) value, indices);
+
+                continue;
+            } else if (step.wrapper()) {
+                // Wrapper methods run as soon as their field is reached, just as they would within a separate pass.
+                for (final int index : indices) ((AutoLoaded<?>) value).runLoadMethods(pass.types().get(index));
+            }
+
+            frame.loader.registerAll(pass, step, value, indices);
+        }
+    }
+
+    /**
+     * Registers the given field's value for each of the interfaces at the given indices that it provides.
+     *
+     * @param pass The current registration pass.
+     * @param step The field's plan step.
+     * @param value The field's value.
+     * @param indices The interface indices.
+     *
+     * @since 1.9.0
+     */
+    private void registerAll(Pass pass, LoadPlan.Step step, @Nullable Object value, int[] indices) {
+        for (final int index : indices) {
+            final Class<? extends Loaded> type = pass.types().get(index);
+
+            // Ensure the field is an instance of the given type.
+            if (step.provides(type)) this.register(pass, step, type, (Loaded) value);
+        }
+    }
+
+    /**
+     * Registers the given field's value for the given {@link Loaded} interface.
+     *
+     * @param pass The current registration pass.
+     * @param step The field's plan step.
+     * @param type The {@link Loaded} interface.
+     * @param value The field's value.
+     *
+     * @since 1.9.0
+     */
+    private void register(Pass pass, LoadPlan.Step step, Class<? extends Loaded> type, Loaded value) {
+        try {
+            Lodestone.register(type, value, step.priority(), step.order());
+
+            if (pass.registered() != null && value != null) {
+                pass.registered().computeIfAbsent(type, t -> new ObjectLinkedOpenHashSet<>()).add(value);
             }
+        } catch (NullPointerException exception) {
+            final String className = this.getClass().getSimpleName();
+            final String fieldName = step.name();
+
+            this.logger.error("Attempted to register '{}#{}' with a null value", className, fieldName);
+        }
+    }
+
+    /**
+     * Registers all defined values that extend any of the given {@link Loaded} interfaces for future loading, visiting
+     * every field only once.
+     *
+     * @param types The types to register.
+     *
+     * @since 1.9.0
+     */
+    private void register(List<Class<? extends Loaded>> types) {
+        final long start = LoadingProfiler.start();
+        final Pass pass = new Pass(types);
+
+        this.iterate(pass);
+
+        if (pass.registered() != null) this.track(pass);
+
+        if (LoadingProfiler.ENABLED) {
+            final String environment = types.size() == 1 ? types.getFirst().getSimpleName() : null;
+            final Identifier loaderId = this.getLoaderId();
+            final String modId = loaderId.getNamespace();
+
+            LoadingProfiler.record(Phase.REGISTRATION, environment, modId, loaderId.toString(), start);
         }
     }
 
+    /**
+     * Tracks this loader's tree for reloading, once it has been registered within the given pass.
+     *
+     * @param pass The completed registration pass.
+     *
+     * @since 1.9.0
+     */
+    private void track(Pass pass) {
+        final Set<Class<?>> classes = new ObjectOpenHashSet<>();
+
+        for (final AutoLoader loader : pass.visited().keySet()) classes.add(loader.getClass());
+
+        HotReloader.track(this, classes, Objects.requireNonNull(pass.registered()));
+    }
+
     /**
      * Registers all defined values that extend the given {@link Loaded} interface for future loading.
      *
@@ -140,28 +233,214 @@ public abstract class AutoLoader
      * @since 1.0.0
      */
     public <T extends Loaded> void register(Class<? extends T> type) {
-        this.iterate(
-            type,
-            (field, value) -> {
-                try {
-                    Lodestone.register(type, value);
-                } catch (NullPointerException exception) {
-                    final String className = this.getClass().getSimpleName();
-                    final String fieldName = field.getName();
-
-                    this.logger.error("Attempted to register '{}#{}' with a null value", className, fieldName);
-                }
-            }
-        );
+        this.register(List.<Class<? extends Loaded>>of(type));
     }
 
     /**
      * Registers all defined values that extend a {@link Loaded} interface for future loading.
+     * <p>
+     * This is done within a single pass over this loader's fields, with each value being registered for every
+     * interface that it implements.
      *
      * @since 1.0.0
      */
     public void register() {
-        Lodestone.getInterfaces().forEach(this::register);
+        // Copying an immutable set into an immutable list reuses the set's cached list view.
+        this.register(ImmutableList.copyOf(Lodestone.getInterfaces()));
+    }
+
+    /**
+     * The state of a single registration pass over an {@link AutoLoader} tree.
+     *
+     * @param types The {@link Loaded} interfaces being registered.
+     * @param visited The indices of the interfaces that each loader has already been walked for, keyed by identity.
+     * @param registered The values registered for each interface, which are only recorded if reloading is active.
+     *
+     * @author Jaxydog
+     * @since 1.9.0
+     */
+    private record Pass(
+        List<Class<? extends Loaded>> types,
+        Map<AutoLoader, BitSet> visited,
+        @Nullable Map<Class<? extends Loaded>, Set<Loaded>> registered
+    ) {
+
+        /**
+         * Creates a new {@link Pass} for the given interfaces.
+         *
+         * @param types The {@link Loaded} interfaces being registered.
+         *
+         * @since 1.9.0
+         */
+        private Pass(List<Class<? extends Loaded>> types) {
+            this(
+                types,
+                new Reference2ObjectOpenHashMap<>(),
+                HotReloader.isActive() ? new Reference2ObjectOpenHashMap<>() : null
+            );
+        }
+
+        /**
+         * Returns the indices of every interface within this pass.
+         *
+         * @return The indices of every interface.
+         *
+         * @since 1.9.0
+         */
+        private int[] all() {
+            final int[] indices = new int[this.types().size()];
+
+            for (int index = 0; index < indices.length; index += 1) indices[index] = index;
+
+            return indices;
+        }
+
+        /**
+         * Returns the given indices, excluding any interfaces that the given step should be skipped within.
+         *
+         * @param step The plan step.
+         * @param indices The interface indices.
+         *
+         * @return The filtered indices.
+         *
+         * @since 1.9.0
+         */
+        private int[] filterIgnored(LoadPlan.Step step, int[] indices) {
+            return Arrays.stream(indices).filter(index -> !step.isIgnored(this.types().get(index))).toArray();
+        }
+
+        /**
+         * Marks the given loader as visited for the interfaces at the given indices, returning the indices that it had
+         * not already been visited for.
+         *
+         * @param loader The loader.
+         * @param indices The interface indices.
+         *
+         * @return The indices that the loader had not already been visited for.
+         *
+         * @since 1.9.0
+         */
+        private int[] visit(AutoLoader loader, int[] indices) {
+            final BitSet visited = this.visited().computeIfAbsent(loader, l -> new BitSet(this.types().size()));
+
+            return Arrays.stream(indices).filter(index -> {
+                if (visited.get(index)) return false;
+
+                visited.set(index);
+
+                return true;
+            }).toArray();
+        }
+
+        /**
+         * Returns whether the given step provides any of the interfaces at the given indices.
+         *
+         * @param step The plan step.
+         * @param indices The interface indices.
+         *
+         * @return Whether any of the interfaces are provided.
+         *
+         * @since 1.9.0
+         */
+        private boolean anyProvided(LoadPlan.Step step, int[] indices) {
+            for (final int index : indices) {
+                if (step.provides(this.types().get(index))) return true;
+            }
+
+            return false;
+        }
+
+    }
+
+    /**
+     * A loader that is currently being walked within a registration pass.
+     *
+     * @author Jaxydog
+     * @since 1.9.0
+     */
+    private static final class Frame {
+
+        /**
+         * The loader being walked.
+         *
+         * @since 1.9.0
+         */
+        private final AutoLoader loader;
+        /**
+         * The loader's plan steps.
+         *
+         * @since 1.9.0
+         */
+        private final LoadPlan.Step[] steps;
+        /**
+         * The indices of the interfaces within the pass that are active for this loader.
+         *
+         * @since 1.9.0
+         */
+        private final int[] active;
+        /**
+         * The position of the next step to walk.
+         *
+         * @since 1.9.0
+         */
+        private int position;
+        /**
+         * The step of a nested loader that should be registered once it has been walked, if any.
+         *
+         * @since 1.9.0
+         */
+        private @Nullable LoadPlan.Step pending;
+        /**
+         * The value of the pending nested loader.
+         *
+         * @since 1.9.0
+         */
+        private @Nullable Object pendingValue;
+        /**
+         * The interface indices that the pending nested loader should be registered for.
+         *
+         * @since 1.9.0
+         */
+        private int[] pendingIndices;
+
+        /**
+         * Creates a new {@link Frame}.
+         *
+         * @param loader The loader being walked.
+         * @param steps The loader's plan steps.
+         * @param active The indices of the interfaces within the pass that are active for this loader.
+         *
+         * @since 1.9.0
+         */
+        private Frame(AutoLoader loader, LoadPlan.Step[] steps, int[] active) {
+            this.loader = loader;
+            this.steps = steps;
+            this.active = active;
+            this.pendingIndices = active;
+        }
+
+        /**
+         * Pushes a frame for the given loader, unless it has already been walked for every given interface or only
+         * belongs to environments that are not present.
+         *
+         * @param stack The traversal stack.
+         * @param pass The current registration pass.
+         * @param loader The loader.
+         * @param indices The indices of the interfaces within the pass that are active for the loader.
+         *
+         * @since 1.9.0
+         */
+        private static void push(Deque<Frame> stack, Pass pass, AutoLoader loader, int[] indices) {
+            final int[] active = pass.visit(loader, indices);
+
+            if (active.length == 0) return;
+
+            // Skip loaders that only belong to environments that are not present, before their plan is ever compiled.
+            if (LoadPlan.isRestricted(loader.getClass())) return;
+
+            stack.push(new Frame(loader, LoadPlan.of(loader.getClass()).steps(), active));
+        }
+
     }
 
 }
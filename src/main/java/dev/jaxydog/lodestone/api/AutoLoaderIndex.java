@@ -0,0 +1,83 @@
+/*
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * Copyright © 2026 Jaxydog
+ *
+ * This file is part of Lodestone.
+ *
+ * Lodestone is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option)
+ * any later version.
+ *
+ * Lodestone is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for
+ * more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with Lodestone. If not, see
+ * <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.lodestone.api;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * A pre-computed index of an {@link AutoLoader} subclass' loadable fields.
+ * <p>
+ * Implementations of this interface are generated at compile-time by Lodestone's optional annotation processor, and
+ * are named after their loader's binary name with {@link #SUFFIX} appended. When an index is present, the
+ * {@link AutoLoader} uses it directly instead of discovering its fields through reflection.
+ * <p>
+ * This interface should never be implemented manually.
+ *
+ * @author Jaxydog
+ * @since 1.9.0
+ */
+public interface AutoLoaderIndex {
+
+    /**
+     * The suffix appended to an {@link AutoLoader} subclass' binary name to form the name of its generated index.
+     *
+     * @since 1.9.0
+     */
+    String SUFFIX = "$LodestoneIndex";
+
+    /**
+     * Returns the loader's loadable fields, sorted by their loading priority.
+     * <p>
+     * Fields that are ignored within all environments are never included.
+     *
+     * @return The loader's indexed fields.
+     *
+     * @since 1.9.0
+     */
+    List<Entry> entries();
+
+    /**
+     * A single indexed field.
+     *
+     * @param name The field's name.
+     * @param type The field's declared type.
+     * @param ignored The {@link Loaded} interfaces that this field should be skipped within.
+     * @param required The {@link Loaded} interfaces that this field is restricted to, or an empty set if it is not
+     * restricted.
+     * @param order The field's loading order constraints.
+     * @param priority The field's loading priority.
+     * @param getter A getter that returns the field's value.
+     *
+     * @author Jaxydog
+     * @since 1.9.0
+     */
+    record Entry(
+        String name,
+        Class<?> type,
+        Set<Class<? extends Loaded>> ignored,
+        Set<Class<? extends Loaded>> required,
+        LoadOrder order,
+        int priority,
+        Supplier<?> getter
+    ) {}
+
+}
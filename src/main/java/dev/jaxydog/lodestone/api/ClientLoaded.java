@@ -32,11 +32,23 @@ import dev.jaxydog.lodestone.impl.BundledLoader;
  * @see ServerLoaded
  * @since 1.0.0
  */
-@BundledLoader
+@BundledLoader(prepare = "prepareClient")
 public interface ClientLoaded
     extends Loaded
 {
 
+    /**
+     * Prepares this value before it is loaded.
+     * <p>
+     * This is run concurrently with the preparation of other values, before any of them are loaded by
+     * {@link #loadClient()}. It may perform expensive work such as reading files or computing data, but must not modify
+     * any shared state, such as registries.
+     *
+     * @since 1.9.0
+     */
+    default void prepareClient() {
+    }
+
     /**
      * Loads this value at runtime on the client.
      *
@@ -29,11 +29,23 @@ import dev.jaxydog.lodestone.impl.BundledLoader;
  * @author Jaxydog
  * @since 1.0.0
  */
-@BundledLoader
+@BundledLoader(prepare = "prepareGeneration")
 public interface DataGenerating
     extends Loaded
 {
 
+    /**
+     * Prepares this value before it is loaded.
+     * <p>
+     * This is run concurrently with the preparation of other values, before any of them are loaded by
+     * {@link #generate()}. It may perform expensive work such as reading files or computing data, but must not modify
+     * any shared state, such as registries.
+     *
+     * @since 1.9.0
+     */
+    default void prepareGeneration() {
+    }
+
     /**
      * Loads this value at runtime.
      *
@@ -0,0 +1,218 @@
+/*
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * Copyright © 2026 Jaxydog
+ *
+ * This file is part of Lodestone.
+ *
+ * Lodestone is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option)
+ * any later version.
+ *
+ * Lodestone is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for
+ * more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with Lodestone. If not, see
+ * <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.lodestone.api;
+
+import dev.jaxydog.lodestone.impl.AsyncLoading;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * A buffered writer for generated data files, which may be shared between concurrently generating values.
+ * <p>
+ * Written files are held in memory until {@link #flush()} is called, at which point they are written to disk. Writing
+ * identical data to the same path more than once is ignored, while writing differing data to the same path is treated
+ * as an error, ensuring that the generated file set never depends on the order that values were generated in.
+ * <p>
+ * Files whose contents have not changed since they were last written are left untouched.
+ *
+ * @author Jaxydog
+ * @since 1.9.0
+ */
+public final class DataWriter {
+
+    /**
+     * The buffered files, keyed by their normalized absolute paths.
+     *
+     * @since 1.9.0
+     */
+    private final Map<Path, byte[]> files = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new, empty {@link DataWriter}.
+     *
+     * @since 1.9.0
+     */
+    public DataWriter() {
+    }
+
+    /**
+     * Buffers the given data to be written to the given path.
+     *
+     * @param path The file's path.
+     * @param data The file's contents.
+     *
+     * @throws IllegalStateException If differing data has already been written to the given path.
+     * @throws NullPointerException If the given path or data is null.
+     * @since 1.9.0
+     */
+    public void write(
+        Path path, byte[] data
+    )
+        throws IllegalStateException, NullPointerException
+    {
+        final Path normalized = path.toAbsolutePath().normalize();
+        final byte[] copy = data.clone();
+        final byte[] previous = this.files.putIfAbsent(normalized, copy);
+
+        if (previous != null && !Arrays.equals(previous, copy)) {
+            throw new IllegalStateException("Conflicting data was written to '%s'".formatted(normalized));
+        }
+    }
+
+    /**
+     * Buffers the given text to be written to the given path, encoded as UTF-8.
+     *
+     * @param path The file's path.
+     * @param text The file's contents.
+     *
+     * @throws IllegalStateException If differing data has already been written to the given path.
+     * @throws NullPointerException If the given path or text is null.
+     * @since 1.9.0
+     */
+    public void write(
+        Path path, String text
+    )
+        throws IllegalStateException, NullPointerException
+    {
+        this.write(path, text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns the number of files that are waiting to be written.
+     *
+     * @return The number of buffered files.
+     *
+     * @since 1.9.0
+     */
+    public int size() {
+        return this.files.size();
+    }
+
+    /**
+     * Writes every buffered file to disk, removing each from the buffer once it has been written.
+     * <p>
+     * Files are written concurrently, using the executor set through
+     * {@link dev.jaxydog.lodestone.Lodestone#setAsyncExecutor(java.util.concurrent.Executor)}. Files that already exist
+     * with identical contents are skipped, so that their modification times are preserved. Files that could not be
+     * written remain buffered, so that a later flush may retry them.
+     *
+     * @return The number of files that were written.
+     *
+     * @throws IOException If a file could not be written, with any further failures attached as suppressed exceptions.
+     * @since 1.9.0
+     */
+    public synchronized int flush() throws IOException {
+        final Executor executor = AsyncLoading.getExecutor();
+        final List<CompletableFuture<Boolean>> tasks = new ObjectArrayList<>(this.files.size());
+
+        for (final Map.Entry<Path, byte[]> entry : this.files.entrySet()) {
+            final Path path = entry.getKey();
+            final byte[] data = entry.getValue();
+
+            tasks.add(CompletableFuture.supplyAsync(() -> this.flush(path, data), executor));
+        }
+
+        @Nullable IOException error = null;
+        int written = 0;
+
+        for (final CompletableFuture<Boolean> task : tasks) {
+            try {
+                if (task.join()) written += 1;
+            } catch (CompletionException exception) {
+                if (!(exception.getCause() instanceof final UncheckedIOException unchecked)) throw exception;
+
+                if (error == null) {
+                    error = unchecked.getCause();
+                } else {
+                    error.addSuppressed(unchecked.getCause());
+                }
+            }
+        }
+
+        if (error != null) throw error;
+
+        return written;
+    }
+
+    /**
+     * Writes a single buffered file to disk, then removes it from the buffer.
+     *
+     * @param path The file's path.
+     * @param data The file's contents.
+     *
+     * @return Whether the file was written, rather than already containing the given data.
+     *
+     * @throws UncheckedIOException If the file could not be written.
+     * @since 1.9.0
+     */
+    private boolean flush(Path path, byte[] data) throws UncheckedIOException {
+        final boolean written;
+
+        try {
+            written = !isUnchanged(path, data);
+
+            if (written) {
+                final Path parent = path.getParent();
+
+                if (parent != null) Files.createDirectories(parent);
+
+                Files.write(path, data);
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+
+        // Identical data is never replaced within the buffer, so this only removes the file that was just written.
+        this.files.remove(path, data);
+
+        return written;
+    }
+
+    /**
+     * Returns whether the file at the given path already contains the given data.
+     *
+     * @param path The file's path.
+     * @param data The expected contents.
+     *
+     * @return Whether the file is unchanged.
+     *
+     * @throws IOException If the file could not be read.
+     * @since 1.9.0
+     */
+    private static boolean isUnchanged(Path path, byte[] data) throws IOException {
+        if (!Files.isRegularFile(path) || Files.size(path) != data.length) return false;
+
+        return Arrays.equals(Files.readAllBytes(path), data);
+    }
+
+}
@@ -0,0 +1,52 @@
+/*
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * Copyright © 2026 Jaxydog
+ *
+ * This file is part of Lodestone.
+ *
+ * Lodestone is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option)
+ * any later version.
+ *
+ * Lodestone is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for
+ * more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with Lodestone. If not, see
+ * <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.lodestone.api;
+
+/**
+ * An option that changes how a custom loader environment loads its values.
+ *
+ * @author Jaxydog
+ * @since 1.9.0
+ */
+public enum EnvironmentOption {
+
+    /**
+     * Marks the environment as safe to load in parallel.
+     * <p>
+     * Values of a parallel environment with the same loading priority are loaded concurrently, while values with
+     * differing priorities are still loaded in priority order. An environment should only be marked as parallel if its
+     * loading method is thread-safe and does not depend on the order that values are loaded in.
+     *
+     * @since 1.9.0
+     */
+    PARALLEL,
+    /**
+     * Limits a parallel environment to one worker thread per available processor.
+     * <p>
+     * By default, each value of a parallel environment is loaded on its own virtual thread. Bounded environments
+     * instead share a fixed number of workers, which is better suited to large numbers of values that are limited by
+     * processing rather than blocking work, such as data generation. This has no effect unless {@link #PARALLEL} is
+     * also given.
+     *
+     * @since 1.9.0
+     */
+    BOUNDED
+
+}
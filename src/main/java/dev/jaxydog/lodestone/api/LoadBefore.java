@@ -0,0 +1,54 @@
+/*
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * Copyright © 2026 Jaxydog
+ *
+ * This file is part of Lodestone.
+ *
+ * Lodestone is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option)
+ * any later version.
+ *
+ * Lodestone is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for
+ * more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with Lodestone. If not, see
+ * <https://www.gnu.org/licenses/>.
+ */
+package dev.jaxydog.lodestone.api;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * An annotation that informs automatic loaders to load the target value before the values with the given loader
+ * identifiers, within each environment that both are loaded in.
+ * <p>
+ * Identifiers are written as strings, such as {@code "your_mod:items"}, and may refer to values registered by other
+ * mods. If the annotated value is a class, all instances will inherit its constraints unless specified by another
+ * {@link LoadBefore} annotation.
+ * <p>
+ * Values registered by other mods are loaded alongside their own mod, so this can only be honored for another mod's
+ * values if that mod has not yet loaded. Otherwise, the constraint is ignored and a warning is logged.
+ *
+ * @author Jaxydog
+ * @see LoadOrder
+ * @since 1.9.0
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.FIELD, ElementType.TYPE })
+public @interface LoadBefore {
+
+    /**
+     * The loader identifiers of the values that must be loaded after the annotated value.
+     *
+     * @return The loader identifiers of the values that must be loaded after the annotated value.
+     *
+     * @since 1.9.0
+     */
+    String[] value();
+
+}
@@ -0,0 +1,198 @@
+/*
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * Copyright © 2026 Jaxydog
+ *
+ * This file is part of Lodestone.
+ *
+ * Lodestone is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option)
+ * any later version.
+ *
+ * Lodestone is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for
+ * more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with Lodestone. If not, see
+ * <https://www.gnu.org/licenses/>.
+ */
+package dev.jaxydog.lodestone.api;
+
+import net.minecraft.util.Identifier;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * The loading order constraints of a registered value, relative to other values within the same environment.
+ * <p>
+ * Constraints refer to other values by their {@link Loaded#getLoaderId() loader identifier}, and may refer to values
+ * registered by other mods. Constraints on values that are never registered are ignored, as are repeated identifiers.
+ * <p>
+ * Constraints only order values that load together. Values registered by other mods are loaded alongside their own
+ * mod, so a value that must load after another mod's value is deferred until that mod has loaded, while a value that
+ * must load before another mod's value can only be honored if that mod has not yet loaded. If it has, the constraint
+ * is ignored and a warning is logged.
+ *
+ * @param after The identifiers of the values that must be loaded before this value.
+ * @param before The identifiers of the values that must be loaded after this value.
+ *
+ * @author Jaxydog
+ * @since 1.9.0
+ */
+public record LoadOrder(Set<Identifier> after, Set<Identifier> before) {
+
+    /**
+     * A loading order without any constraints.
+     *
+     * @since 1.9.0
+     */
+    public static final LoadOrder NONE = new LoadOrder(Set.of(), Set.of());
+
+    /**
+     * Creates a new {@link LoadOrder}.
+     *
+     * @param after The identifiers of the values that must be loaded before this value.
+     * @param before The identifiers of the values that must be loaded after this value.
+     *
+     * @throws NullPointerException If either set or any of their identifiers are null.
+     * @since 1.9.0
+     */
+    public LoadOrder {
+        after = Set.copyOf(after);
+        before = Set.copyOf(before);
+    }
+
+    /**
+     * Returns a loading order that loads a value after all the given values.
+     *
+     * @param identifiers The identifiers of the values that must be loaded first.
+     *
+     * @return A new loading order.
+     *
+     * @since 1.9.0
+     */
+    public static LoadOrder after(Identifier... identifiers) {
+        return NONE.andAfter(identifiers);
+    }
+
+    /**
+     * Returns a loading order that loads a value before all the given values.
+     *
+     * @param identifiers The identifiers of the values that must be loaded afterward.
+     *
+     * @return A new loading order.
+     *
+     * @since 1.9.0
+     */
+    public static LoadOrder before(Identifier... identifiers) {
+        return NONE.andBefore(identifiers);
+    }
+
+    /**
+     * Parses a loading order from the given identifier strings, as used by the {@link LoadAfter} and
+     * {@link LoadBefore} annotations.
+     *
+     * @param after The identifiers of the values that must be loaded before this value.
+     * @param before The identifiers of the values that must be loaded after this value.
+     *
+     * @return A new loading order.
+     *
+     * @throws IllegalArgumentException If any of the given strings are not valid identifiers.
+     * @since 1.9.0
+     */
+    public static LoadOrder parse(Collection<String> after, Collection<String> before)
+        throws IllegalArgumentException
+    {
+        if (after.isEmpty() && before.isEmpty()) return NONE;
+
+        return new LoadOrder(parse(after), parse(before));
+    }
+
+    /**
+     * Parses the given identifier strings, dropping any repeated identifiers.
+     *
+     * @param strings The identifier strings.
+     *
+     * @return The parsed identifiers.
+     *
+     * @throws IllegalArgumentException If any of the given strings are not valid identifiers.
+     * @since 1.9.0
+     */
+    private static Set<Identifier> parse(Collection<String> strings)
+        throws IllegalArgumentException
+    {
+        final Identifier[] identifiers = new Identifier[strings.size()];
+        int index = 0;
+
+        for (final String string : strings) {
+            final Identifier identifier = Identifier.tryParse(string);
+
+            if (identifier == null) {
+                throw new IllegalArgumentException("Invalid loading order identifier '%s'".formatted(string));
+            }
+
+            identifiers[index] = identifier;
+            index += 1;
+        }
+
+        // Repeated identifiers constrain nothing further, so they are dropped rather than rejected.
+        return Set.copyOf(Arrays.asList(identifiers));
+    }
+
+    /**
+     * Returns a copy of this loading order that also loads a value after all the given values.
+     *
+     * @param identifiers The identifiers of the values that must be loaded first.
+     *
+     * @return A new loading order.
+     *
+     * @throws NullPointerException If any of the given identifiers are null.
+     * @since 1.9.0
+     */
+    public LoadOrder andAfter(Identifier... identifiers) {
+        return new LoadOrder(concat(this.after(), identifiers), this.before());
+    }
+
+    /**
+     * Returns a copy of this loading order that also loads a value before all the given values.
+     *
+     * @param identifiers The identifiers of the values that must be loaded afterward.
+     *
+     * @return A new loading order.
+     *
+     * @throws NullPointerException If any of the given identifiers are null.
+     * @since 1.9.0
+     */
+    public LoadOrder andBefore(Identifier... identifiers) {
+        return new LoadOrder(this.after(), concat(this.before(), identifiers));
+    }
+
+    /**
+     * Returns a set containing the given identifiers, followed by the given additional identifiers.
+     *
+     * @param identifiers The identifiers.
+     * @param additional The additional identifiers.
+     *
+     * @return A new set of identifiers.
+     *
+     * @since 1.9.0
+     */
+    private static Set<Identifier> concat(Set<Identifier> identifiers, Identifier[] additional) {
+        return Set.copyOf(Stream.concat(identifiers.stream(), Arrays.stream(additional)).toList());
+    }
+
+    /**
+     * Returns whether this loading order has no constraints.
+     *
+     * @return Whether this loading order has no constraints.
+     *
+     * @since 1.9.0
+     */
+    public boolean isEmpty() {
+        return this.after().isEmpty() && this.before().isEmpty();
+    }
+
+}
@@ -0,0 +1,793 @@
+/*
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * Copyright © 2026 Jaxydog
+ *
+ * This file is part of Lodestone.
+ *
+ * Lodestone is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option)
+ * any later version.
+ *
+ * Lodestone is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for
+ * more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with Lodestone. If not, see
+ * <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.lodestone.api;
+
+import dev.jaxydog.lodestone.Lodestone;
+import dev.jaxydog.lodestone.api.LoadTiming.Phase;
+import dev.jaxydog.lodestone.impl.LoadingEvents;
+import dev.jaxydog.lodestone.impl.LoadingProfiler;
+import dev.jaxydog.lodestone.impl.PlanCache;
+import dev.jaxydog.lodestone.impl.PlanCache.CachedField;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import net.minecraft.util.Identifier;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessFlag;
+import java.lang.reflect.Field;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * A pre-computed loading plan for an {@link AutoLoader} subclass.
+ * <p>
+ * Plans are compiled once per class and cached, ensuring that the reflective field discovery, sorting, and annotation
+ * lookups performed by an {@link AutoLoader} only happen a single time, no matter how many {@link Loaded} interfaces
+ * it is registered for. If the class has a generated {@link AutoLoaderIndex}, reflection is skipped entirely.
+ * Otherwise, plans may be read from and written to the persistent {@link PlanCache}, if it is enabled.
+ *
+ * @author Jaxydog
+ * @since 1.9.0
+ */
+final class LoadPlan {
+
+    /**
+     * The load plan logger.
+     *
+     * @since 1.9.0
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger("Lodestone/LoadPlan");
+    /**
+     * A comparator that sorts fields by their annotated loading priority.
+     *
+     * @since 1.0.0
+     */
+    private static final Comparator<Field> PRIORITY_ORDER = Comparator.comparingInt(LoadPlan::getPriority).reversed();
+    /**
+     * The method type of a generic static field getter.
+     *
+     * @since 1.9.0
+     */
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class);
+    /**
+     * The cached plans for each {@link AutoLoader} subclass.
+     *
+     * @since 1.9.0
+     */
+    private static final ClassValue<LoadPlan> CACHE = new ClassValue<>() {
+        @Override
+        protected LoadPlan computeValue(Class<?> type) {
+            return compile(type);
+        }
+    };
+
+    /**
+     * The plan's steps, pre-filtered and sorted by their loading priority.
+     *
+     * @since 1.9.0
+     */
+    private final Step[] steps;
+
+    /**
+     * Creates a new {@link LoadPlan}.
+     *
+     * @param steps The plan's steps.
+     *
+     * @since 1.9.0
+     */
+    private LoadPlan(Step[] steps) {
+        this.steps = steps;
+    }
+
+    /**
+     * Returns the cached plan for the given {@link AutoLoader} subclass, compiling it if necessary.
+     *
+     * @param type The {@link AutoLoader} subclass.
+     *
+     * @return The class' loading plan.
+     *
+     * @since 1.9.0
+     */
+    static LoadPlan of(Class<? extends AutoLoader> type) {
+        return CACHE.get(type);
+    }
+
+    /**
+     * Compiles a new plan for the given class, preferring its generated index or cached plan if either exists.
+     *
+     * @param type The class.
+     *
+     * @return A new loading plan.
+     *
+     * @since 1.9.0
+     */
+    private static LoadPlan compile(Class<?> type) {
+        final LoadingEvents.Discovery event = new LoadingEvents.Discovery();
+        final long start = LoadingProfiler.start();
+
+        event.begin();
+
+        final LoadPlan plan = findIndex(type).map(LoadPlan::compileIndexed)
+            .or(() -> findCached(type))
+            .orElseGet(() -> compileReflective(type));
+
+        LoadingProfiler.record(Phase.DISCOVERY, null, null, type.getName(), start);
+
+        if (event.shouldCommit()) {
+            event.loaderClass = type.getName();
+            event.fields = plan.steps().length;
+
+            event.commit();
+        }
+
+        return plan;
+    }
+
+    /**
+     * Compiles a new plan from the given generated index.
+     *
+     * @param index The generated index.
+     *
+     * @return A new loading plan.
+     *
+     * @since 1.9.0
+     */
+    private static LoadPlan compileIndexed(AutoLoaderIndex index) {
+        return new LoadPlan(index.entries().stream().map(Step::of).toArray(Step[]::new));
+    }
+
+    /**
+     * Compiles a new plan by reflecting over the given class' fields.
+     *
+     * @param type The class.
+     *
+     * @return A new loading plan.
+     *
+     * @since 1.9.0
+     */
+    private static LoadPlan compileReflective(Class<?> type) {
+        final Field[] fields = Arrays.stream(type.getFields())
+            .filter(LoadPlan::isLoadable)
+            .sorted(PRIORITY_ORDER)
+            .toArray(Field[]::new);
+        final Step[] steps = Arrays.stream(fields).map(Step::of).toArray(Step[]::new);
+
+        if (PlanCache.ENABLED) {
+            final CachedField[] cached = new CachedField[steps.length];
+
+            for (int index = 0; index < steps.length; index += 1) {
+                cached[index] = steps[index].toCached(fields[index].getDeclaringClass());
+            }
+
+            PlanCache.put(type.getName(), List.of(cached));
+        }
+
+        return new LoadPlan(steps);
+    }
+
+    /**
+     * Returns a plan for the given class from the persistent cache, if it exists and is still valid.
+     *
+     * @param type The class.
+     *
+     * @return The class' cached plan.
+     *
+     * @since 1.9.0
+     */
+    private static Optional<LoadPlan> findCached(Class<?> type) {
+        if (!PlanCache.ENABLED) return Optional.empty();
+
+        return PlanCache.get(type.getName()).flatMap(fields -> {
+            final Step[] steps = new Step[fields.size()];
+            // Most fields share their owner and interfaces, so each class is only looked up once per plan.
+            final Map<String, Class<?>> classes = new Object2ObjectOpenHashMap<>();
+
+            classes.put(type.getName(), type);
+
+            try {
+                for (int index = 0; index < steps.length; index += 1) {
+                    steps[index] = Step.of(fields.get(index), classes, type.getClassLoader());
+                }
+            } catch (ReflectiveOperationException | ClassCastException | IllegalArgumentException exception) {
+                // The cache is keyed by the installed mods, so this should only happen if a file was replaced in-place.
+                LOGGER.warn("Discarding cached plan of '{}': {}", type.getName(), exception.getLocalizedMessage());
+
+                return Optional.empty();
+            }
+
+            return Optional.of(new LoadPlan(steps));
+        });
+    }
+
+    /**
+     * Returns the generated index of the given class, if it exists.
+     *
+     * @param type The class.
+     *
+     * @return The class' generated index.
+     *
+     * @since 1.9.0
+     */
+    private static Optional<AutoLoaderIndex> findIndex(Class<?> type) {
+        final String name = type.getName() + AutoLoaderIndex.SUFFIX;
+
+        try {
+            final Class<?> index = Class.forName(name, true, type.getClassLoader());
+
+            if (!AutoLoaderIndex.class.isAssignableFrom(index)) return Optional.empty();
+
+            return Optional.of((AutoLoaderIndex) index.getConstructor().newInstance());
+        } catch (ClassNotFoundException exception) {
+            return Optional.empty();
+        } catch (ReflectiveOperationException exception) {
+            LOGGER.warn("Unable to use generated index '{}': {}", name, exception.getLocalizedMessage());
+
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns whether the given field may ever be loaded.
+     * <p>
+     * Loadable fields are {@code public}, {@code static}, and {@code final}, are not primitive, and are not ignored
+     * within all environments.
+     *
+     * @param field The field.
+     *
+     * @return Whether the field may be loaded.
+     *
+     * @since 1.9.0
+     */
+    private static boolean isLoadable(Field field) {
+        final Set<AccessFlag> flags = field.accessFlags();
+
+        if (!flags.contains(AccessFlag.PUBLIC)) return false;
+        if (!flags.contains(AccessFlag.STATIC)) return false;
+        if (!flags.contains(AccessFlag.FINAL)) return false;
+        // Primitive fields can never be loaded.
+        if (field.getType().isPrimitive()) return false;
+
+        final IgnoreLoading annotation = field.getAnnotation(IgnoreLoading.class);
+
+        return annotation == null || annotation.value().length != 0;
+    }
+
+    /**
+     * Returns the loading priority of the given field.
+     *
+     * @param field The field.
+     *
+     * @return The field's loading priority.
+     *
+     * @since 1.9.0
+     */
+    private static int getPriority(Field field) {
+        if (field.isAnnotationPresent(LoadingPriority.class)) {
+            return field.getAnnotation(LoadingPriority.class).value();
+        } else if (field.getType().isAnnotationPresent(LoadingPriority.class)) {
+            return field.getType().getAnnotation(LoadingPriority.class).value();
+        } else {
+            return LoadingPriority.DEFAULT;
+        }
+    }
+
+    /**
+     * Returns the loading order constraints of the given field.
+     * <p>
+     * Each annotation on the field takes precedence over the same annotation on the field's type. Invalid identifiers
+     * are reported, and cause the field's constraints to be ignored.
+     *
+     * @param field The field.
+     *
+     * @return The field's loading order constraints.
+     *
+     * @since 1.9.0
+     */
+    private static LoadOrder getOrder(Field field) {
+        final LoadAfter after = Optional.ofNullable(field.getAnnotation(LoadAfter.class))
+            .orElseGet(() -> field.getType().getAnnotation(LoadAfter.class));
+        final LoadBefore before = Optional.ofNullable(field.getAnnotation(LoadBefore.class))
+            .orElseGet(() -> field.getType().getAnnotation(LoadBefore.class));
+
+        if (after == null && before == null) return LoadOrder.NONE;
+
+        try {
+            return LoadOrder.parse(
+                after == null ? List.of() : List.of(after.value()),
+                before == null ? List.of() : List.of(before.value())
+            );
+        } catch (IllegalArgumentException exception) {
+            final String name = field.getDeclaringClass().getSimpleName() + '#' + field.getName();
+
+            LOGGER.error("Ignoring loading order of '{}': {}", name, exception.getLocalizedMessage());
+
+            return LoadOrder.NONE;
+        }
+    }
+
+    /**
+     * Returns the {@link Loaded} interfaces that the given field is restricted to.
+     *
+     * @param field The field.
+     *
+     * @return The field's required interfaces, or an empty set if it is not restricted.
+     *
+     * @since 1.9.0
+     */
+    private static Set<Class<? extends Loaded>> getRequired(Field field) {
+        if (field.isAnnotationPresent(RestrictLoading.class)) {
+            return Set.of(field.getAnnotation(RestrictLoading.class).value());
+        } else {
+            return getRequired(field.getType());
+        }
+    }
+
+    /**
+     * Returns the {@link Loaded} interfaces that the given class is restricted to.
+     *
+     * @param type The class.
+     *
+     * @return The class' required interfaces, or an empty set if it is not restricted.
+     *
+     * @since 1.9.0
+     */
+    private static Set<Class<? extends Loaded>> getRequired(Class<?> type) {
+        final RestrictLoading annotation = type.getAnnotation(RestrictLoading.class);
+
+        return annotation == null ? Set.of() : Set.of(annotation.value());
+    }
+
+    /**
+     * Returns whether none of the given {@link Loaded} interfaces currently have a registered environment.
+     *
+     * @param required The required interfaces.
+     *
+     * @return Whether a value restricted to the given interfaces should be skipped.
+     *
+     * @since 1.9.0
+     */
+    private static boolean isRestricted(Set<Class<? extends Loaded>> required) {
+        if (required.isEmpty()) return false;
+
+        for (final Class<? extends Loaded> type : required) {
+            if (Lodestone.hasEnvironment(type)) return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Resolves a getter for the given static field, allowing its value to be read without reflective access checks.
+     *
+     * @param field The field.
+     *
+     * @return The field's getter, or {@code null} if it could not be resolved.
+     *
+     * @since 1.9.0
+     */
+    private static @Nullable MethodHandle getGetter(Field field) {
+        try {
+            return MethodHandles.publicLookup().unreflectGetter(field).asType(GETTER_TYPE);
+        } catch (IllegalAccessException exception) {
+            // Inaccessible fields fall back to reflection, which reports the same error when read.
+            return null;
+        }
+    }
+
+    /**
+     * Creates a reader for the given static field, preferring a pre-resolved getter when possible.
+     *
+     * @param field The field.
+     *
+     * @return The field's reader.
+     *
+     * @since 1.9.0
+     */
+    private static Reader getReader(Field field) {
+        final MethodHandle getter = getGetter(field);
+
+        return getter == null ? () -> field.get(null) : getReader(getter);
+    }
+
+    /**
+     * Creates a reader for the given static field, resolving its getter directly rather than through its {@link Field}.
+     *
+     * @param owner The field's declaring class.
+     * @param name The field's name.
+     * @param type The field's declared type.
+     *
+     * @return The field's reader.
+     *
+     * @throws NoSuchFieldException If the field does not exist.
+     * @since 1.9.0
+     */
+    private static Reader getReader(Class<?> owner, String name, Class<?> type)
+        throws NoSuchFieldException
+    {
+        try {
+            final MethodHandle getter = MethodHandles.publicLookup().findStaticGetter(owner, name, type);
+
+            return getReader(getter.asType(GETTER_TYPE));
+        } catch (IllegalAccessException exception) {
+            // Inaccessible fields fall back to reflection, which reports the same error when read.
+            return getReader(owner.getDeclaredField(name));
+        }
+    }
+
+    /**
+     * Creates a reader for the given static field getter.
+     *
+     * @param getter The getter.
+     *
+     * @return The field's reader.
+     *
+     * @since 1.9.0
+     */
+    private static Reader getReader(MethodHandle getter) {
+        return () -> invokeGetter(getter);
+    }
+
+    /**
+     * Resolves the class with the given name, reusing previously resolved classes.
+     *
+     * @param name The class' binary name.
+     * @param classes The previously resolved classes, keyed by their binary names.
+     * @param loader The class loader used to resolve the class.
+     *
+     * @return The resolved class.
+     *
+     * @throws ClassNotFoundException If the class could not be found.
+     * @since 1.9.0
+     */
+    private static Class<?> resolve(String name, Map<String, Class<?>> classes, @Nullable ClassLoader loader)
+        throws ClassNotFoundException
+    {
+        Class<?> type = classes.get(name);
+
+        if (type == null) {
+            type = Class.forName(name, false, loader);
+
+            classes.put(name, type);
+        }
+
+        return type;
+    }
+
+    /**
+     * Resolves the given {@link Loaded} interface names.
+     *
+     * @param names The interfaces' binary names.
+     * @param classes The previously resolved classes, keyed by their binary names.
+     * @param loader The class loader used to resolve the interfaces.
+     *
+     * @return The resolved interfaces.
+     *
+     * @throws ClassNotFoundException If an interface could not be found.
+     * @since 1.9.0
+     */
+    private static Set<Class<? extends Loaded>> resolve(
+        List<String> names, Map<String, Class<?>> classes, @Nullable ClassLoader loader
+    )
+        throws ClassNotFoundException
+    {
+        if (names.isEmpty()) return Set.of();
+
+        final List<Class<? extends Loaded>> types = new ObjectArrayList<>(names.size());
+
+        for (final String name : names) types.add(resolve(name, classes, loader).asSubclass(Loaded.class));
+
+        return Set.copyOf(types);
+    }
+
+    /**
+     * Invokes the given static field getter.
+     *
+     * @param getter The getter.
+     *
+     * @return The field's value.
+     *
+     * @since 1.9.0
+     */
+    private static Object invokeGetter(MethodHandle getter) {
+        try {
+            return getter.invokeExact();
+        } catch (RuntimeException | Error exception) {
+            throw exception;
+        } catch (Throwable throwable) {
+            // Static field getters never throw checked exceptions, but the compiler is unable to know that.
+            throw new UndeclaredThrowableException(throwable);
+        }
+    }
+
+    /**
+     * Returns the plan's steps in loading order.
+     * <p>
+     * The returned array is shared, and must never be modified.
+     *
+     * @return The plan's steps.
+     *
+     * @since 1.9.0
+     */
+    Step[] steps() {
+        return this.steps;
+    }
+
+    /**
+     * Returns whether the given {@link AutoLoader} subclass should be skipped entirely, as none of the environments
+     * that it is restricted to have been registered.
+     * <p>
+     * This only reads the class' annotation, so it should be checked before compiling the class' plan. It is checked on
+     * every registration, as environments may be registered after an earlier registration of the same class.
+     *
+     * @param type The {@link AutoLoader} subclass.
+     *
+     * @return Whether the class should be skipped.
+     *
+     * @since 1.9.0
+     */
+    static boolean isRestricted(Class<? extends AutoLoader> type) {
+        return isRestricted(getRequired(type));
+    }
+
+    /**
+     * Reads the value of a static field.
+     *
+     * @author Jaxydog
+     * @since 1.9.0
+     */
+    @FunctionalInterface
+    interface Reader {
+
+        /**
+         * Reads the field's value.
+         *
+         * @return The field's value.
+         *
+         * @throws IllegalAccessException If the field is not accessible.
+         * @since 1.9.0
+         */
+        Object read()
+            throws IllegalAccessException;
+
+    }
+
+    /**
+     * A single step within a {@link LoadPlan}.
+     *
+     * @param name The loaded field's name.
+     * @param type The loaded field's declared type.
+     * @param ignored The {@link Loaded} interfaces that this field should be skipped within.
+     * @param required The {@link Loaded} interfaces that this field is restricted to.
+     * @param order The field's loading order constraints.
+     * @param loader Whether the field contains a nested {@link AutoLoader}.
+     * @param wrapper Whether the field contains an {@link AutoLoaded} wrapper.
+     * @param priority The field's loading priority.
+     * @param reader Reads the field's value.
+     *
+     * @author Jaxydog
+     * @since 1.9.0
+     */
+    record Step(
+        String name,
+        Class<?> type,
+        Set<Class<? extends Loaded>> ignored,
+        Set<Class<? extends Loaded>> required,
+        LoadOrder order,
+        boolean loader,
+        boolean wrapper,
+        int priority,
+        Reader reader
+    ) {
+
+        /**
+         * Creates a new step for the given field.
+         *
+         * @param field The field.
+         *
+         * @return A new step.
+         *
+         * @since 1.9.0
+         */
+        private static Step of(Field field) {
+            final IgnoreLoading annotation = field.getAnnotation(IgnoreLoading.class);
+            final Set<Class<? extends Loaded>> ignored = annotation == null ? Set.of() : Set.of(annotation.value());
+
+            final Set<Class<? extends Loaded>> required = getRequired(field);
+            final LoadOrder order = getOrder(field);
+
+            return of(field.getName(), field.getType(), ignored, required, order, getPriority(field), getReader(field));
+        }
+
+        /**
+         * Creates a new step for the given cached field.
+         *
+         * @param cached The cached field.
+         * @param classes The previously resolved classes, keyed by their binary names.
+         * @param loader The class loader used to resolve the field.
+         *
+         * @return A new step.
+         *
+         * @throws ReflectiveOperationException If the field or any of its interfaces could not be resolved.
+         * @throws IllegalArgumentException If any of the field's loading order identifiers are invalid.
+         * @since 1.9.0
+         */
+        private static Step of(CachedField cached, Map<String, Class<?>> classes, @Nullable ClassLoader loader)
+            throws ReflectiveOperationException, IllegalArgumentException
+        {
+            final Class<?> owner = resolve(cached.owner(), classes, loader);
+            final Class<?> type = resolve(cached.type(), classes, loader);
+            final Set<Class<? extends Loaded>> ignored = resolve(cached.ignored(), classes, loader);
+            final Set<Class<? extends Loaded>> required = resolve(cached.required(), classes, loader);
+            final LoadOrder order = LoadOrder.parse(cached.after(), cached.before());
+            final Reader reader = getReader(owner, cached.name(), type);
+
+            return of(cached.name(), type, ignored, required, order, cached.priority(), reader);
+        }
+
+        /**
+         * Creates a new step for the given indexed field.
+         *
+         * @param entry The indexed field.
+         *
+         * @return A new step.
+         *
+         * @since 1.9.0
+         */
+        private static Step of(AutoLoaderIndex.Entry entry) {
+            final Reader reader = entry.getter()::get;
+
+            return of(
+                entry.name(), entry.type(), entry.ignored(), entry.required(), entry.order(), entry.priority(), reader
+            );
+        }
+
+        /**
+         * Creates a new step.
+         *
+         * @param name The loaded field's name.
+         * @param type The loaded field's declared type.
+         * @param ignored The {@link Loaded} interfaces that this field should be skipped within.
+         * @param required The {@link Loaded} interfaces that this field is restricted to.
+         * @param order The field's loading order constraints.
+         * @param priority The field's loading priority.
+         * @param reader Reads the field's value.
+         *
+         * @return A new step.
+         *
+         * @since 1.9.0
+         */
+        private static Step of(
+            String name,
+            Class<?> type,
+            Set<Class<? extends Loaded>> ignored,
+            Set<Class<? extends Loaded>> required,
+            LoadOrder order,
+            int priority,
+            Reader reader
+        ) {
+            final boolean loader = AutoLoader.class.isAssignableFrom(type);
+            final boolean wrapper = AutoLoaded.class.isAssignableFrom(type);
+
+            return new Step(name, type, ignored, required, order, loader, wrapper, priority, reader);
+        }
+
+        /**
+         * Returns whether this step should be skipped within the given {@link Loaded} interface.
+         *
+         * @param type The {@link Loaded} interface.
+         *
+         * @return Whether this step should be skipped.
+         *
+         * @since 1.9.0
+         */
+        boolean isIgnored(Class<? extends Loaded> type) {
+            return this.ignored().contains(type);
+        }
+
+        /**
+         * Returns whether this step should be skipped entirely, as none of the environments that it is restricted to
+         * have been registered.
+         *
+         * @return Whether this step should be skipped.
+         *
+         * @since 1.9.0
+         */
+        boolean isRestricted() {
+            return LoadPlan.isRestricted(this.required());
+        }
+
+        /**
+         * Returns whether this step's field provides values of the given {@link Loaded} interface.
+         *
+         * @param type The {@link Loaded} interface.
+         *
+         * @return Whether this step provides the given interface.
+         *
+         * @since 1.9.0
+         */
+        boolean provides(Class<? extends Loaded> type) {
+            return type.isAssignableFrom(this.type());
+        }
+
+        /**
+         * Converts this step into a persistent cache entry.
+         *
+         * @param owner The field's declaring class.
+         *
+         * @return A new cache entry.
+         *
+         * @since 1.9.0
+         */
+        CachedField toCached(Class<?> owner) {
+            final List<String> ignored = this.ignored().stream().map(Class::getName).sorted().toList();
+            final List<String> required = this.required().stream().map(Class::getName).sorted().toList();
+            final List<String> after = this.order().after().stream().map(Identifier::toString).sorted().toList();
+            final List<String> before = this.order().before().stream().map(Identifier::toString).sorted().toList();
+
+            final String owned = owner.getName();
+            final String type = this.type().getName();
+
+            return new CachedField(owned, this.name(), type, ignored, required, after, before, this.priority());
+        }
+
+        /**
+         * Returns a short description of this step's kind, used for logging.
+         *
+         * @return The step's kind.
+         *
+         * @since 1.9.0
+         */
+        String getKind() {
+            if (this.loader()) {
+                return "loader";
+            } else if (this.wrapper()) {
+                return "wrapper";
+            } else {
+                return "field";
+            }
+        }
+
+        /**
+         * Reads the value of this step's field.
+         *
+         * @return The field's value.
+         *
+         * @throws IllegalAccessException If the field is not accessible.
+         * @since 1.9.0
+         */
+        Object read()
+            throws IllegalAccessException
+        {
+            return this.reader().read();
+        }
+
+    }
+
+}
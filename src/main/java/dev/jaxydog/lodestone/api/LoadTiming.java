@@ -0,0 +1,79 @@
+/*
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * Copyright © 2026 Jaxydog
+ *
+ * This file is part of Lodestone.
+ *
+ * Lodestone is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option)
+ * any later version.
+ *
+ * Lodestone is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for
+ * more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with Lodestone. If not, see
+ * <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.lodestone.api;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A single timing measurement recorded while Lodestone was profiling.
+ *
+ * @param phase The measured loading phase.
+ * @param environment The simple name of the measured {@link Loaded} interface, or {@code null} if not applicable.
+ * @param modId The measured mod's identifier, or {@code null} if not applicable.
+ * @param target The measured target, such as a loader identifier or class name.
+ * @param nanos The measured duration in nanoseconds.
+ *
+ * @author Jaxydog
+ * @since 1.9.0
+ */
+public record LoadTiming(Phase phase, @Nullable String environment, @Nullable String modId, String target, long nanos) {
+
+    /**
+     * A measured loading phase.
+     *
+     * @author Jaxydog
+     * @since 1.9.0
+     */
+    public enum Phase {
+
+        /**
+         * The discovery of an {@link AutoLoader} subclass' fields. The target is the loader's class name.
+         *
+         * @since 1.9.0
+         */
+        DISCOVERY,
+        /**
+         * A single {@link AutoLoader} registration pass. The target is the loader's identifier.
+         *
+         * @since 1.9.0
+         */
+        REGISTRATION,
+        /**
+         * The loading of a single entrypoint. The target is the entrypoint's loader identifier.
+         *
+         * @since 1.9.0
+         */
+        ENTRYPOINT,
+        /**
+         * The preparation of all of a mod's entrypoints for an environment. The target is the mod's identifier.
+         *
+         * @since 1.9.0
+         */
+        PREPARATION,
+        /**
+         * The loading of all of a mod's entrypoints for an environment. The target is the mod's identifier.
+         *
+         * @since 1.9.0
+         */
+        MOD
+
+    }
+
+}
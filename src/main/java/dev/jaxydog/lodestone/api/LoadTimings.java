@@ -0,0 +1,209 @@
+/*
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * Copyright © 2026 Jaxydog
+ *
+ * This file is part of Lodestone.
+ *
+ * Lodestone is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option)
+ * any later version.
+ *
+ * Lodestone is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for
+ * more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with Lodestone. If not, see
+ * <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.lodestone.api;
+
+import dev.jaxydog.lodestone.api.LoadTiming.Phase;
+import it.unimi.dsi.fastutil.objects.Object2LongLinkedOpenHashMap;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * An immutable snapshot of all timings recorded while Lodestone was profiling.
+ * <p>
+ * Profiling is enabled by launching the game with the {@code lodestone.profile} system property set to {@code true}.
+ *
+ * @param entries The recorded timings, in the order they were recorded.
+ *
+ * @author Jaxydog
+ * @since 1.9.0
+ */
+public record LoadTimings(List<LoadTiming> entries) {
+
+    /**
+     * Creates a new {@link LoadTimings} snapshot.
+     *
+     * @param entries The recorded timings, in the order they were recorded.
+     *
+     * @since 1.9.0
+     */
+    public LoadTimings {
+        entries = List.copyOf(entries);
+    }
+
+    /**
+     * Returns the total time spent loading entrypoints within each environment.
+     *
+     * @return The total nanoseconds spent within each environment.
+     *
+     * @since 1.9.0
+     */
+    public Map<String, Long> byEnvironment() {
+        return this.sum(Phase.ENTRYPOINT, LoadTiming::environment);
+    }
+
+    /**
+     * Returns the total time spent loading entrypoints for each mod.
+     *
+     * @return The total nanoseconds spent for each mod.
+     *
+     * @since 1.9.0
+     */
+    public Map<String, Long> byMod() {
+        return this.sum(Phase.ENTRYPOINT, LoadTiming::modId);
+    }
+
+    /**
+     * Returns the total time spent loading each entrypoint, across all environments.
+     *
+     * @return The total nanoseconds spent for each entrypoint.
+     *
+     * @since 1.9.0
+     */
+    public Map<String, Long> byEntrypoint() {
+        return this.sum(Phase.ENTRYPOINT, LoadTiming::target);
+    }
+
+    /**
+     * Sums the durations of all timings of the given phase, grouped by the given key.
+     *
+     * @param phase The phase.
+     * @param key The grouping key.
+     *
+     * @return The summed durations, in the order that their keys were first recorded.
+     *
+     * @since 1.9.0
+     */
+    private Map<String, Long> sum(Phase phase, Function<LoadTiming, String> key) {
+        final Object2LongLinkedOpenHashMap<String> totals = new Object2LongLinkedOpenHashMap<>();
+
+        for (final LoadTiming timing : this.entries()) {
+            if (timing.phase() != phase || key.apply(timing) == null) continue;
+
+            totals.addTo(key.apply(timing), timing.nanos());
+        }
+
+        return totals;
+    }
+
+    /**
+     * Writes these timings as a JSON array to the given output.
+     *
+     * @param output The output.
+     *
+     * @throws IOException If the output could not be written to.
+     * @since 1.9.0
+     */
+    public void writeJson(Appendable output)
+        throws IOException
+    {
+        output.append('[');
+
+        for (int index = 0; index < this.entries().size(); index += 1) {
+            final LoadTiming timing = this.entries().get(index);
+
+            if (index > 0) output.append(',');
+
+            output.append("\n    {\"phase\":").append(toJson(timing.phase().name()));
+            output.append(",\"environment\":").append(toJson(timing.environment()));
+            output.append(",\"modId\":").append(toJson(timing.modId()));
+            output.append(",\"target\":").append(toJson(timing.target()));
+            output.append(",\"nanos\":").append(Long.toString(timing.nanos())).append('}');
+        }
+
+        output.append("\n]\n");
+    }
+
+    /**
+     * Writes these timings as comma-separated values to the given output.
+     *
+     * @param output The output.
+     *
+     * @throws IOException If the output could not be written to.
+     * @since 1.9.0
+     */
+    public void writeCsv(Appendable output)
+        throws IOException
+    {
+        output.append("phase,environment,modId,target,nanos\n");
+
+        for (final LoadTiming timing : this.entries()) {
+            output.append(timing.phase().name()).append(',');
+            output.append(toCsv(timing.environment())).append(',');
+            output.append(toCsv(timing.modId())).append(',');
+            output.append(toCsv(timing.target())).append(',');
+            output.append(Long.toString(timing.nanos())).append('\n');
+        }
+    }
+
+    /**
+     * Returns the given string as a JSON value.
+     *
+     * @param string The string.
+     *
+     * @return The JSON value.
+     *
+     * @since 1.9.0
+     */
+    private static String toJson(@Nullable String string) {
+        if (string == null) return "null";
+
+        final StringBuilder builder = new StringBuilder(string.length() + 2).append('"');
+
+        for (final char character : string.toCharArray()) {
+            switch (character) {
+                case '"' -> builder.append("\\\"");
+                case '\\' -> builder.append("\\\\");
+                case '\n' -> builder.append("\\n");
+                case '\r' -> builder.append("\\r");
+                case '\t' -> builder.append("\\t");
+                default -> {
+                    if (character < 0x20) {
+                        builder.append("\\u%04x".formatted((int) character));
+                    } else {
+                        builder.append(character);
+                    }
+                }
+            }
+        }
+
+        return builder.append('"').toString();
+    }
+
+    /**
+     * Returns the given string as a CSV value.
+     *
+     * @param string The string.
+     *
+     * @return The CSV value.
+     *
+     * @since 1.9.0
+     */
+    private static String toCsv(@Nullable String string) {
+        if (string == null) return "";
+        if (string.indexOf(',') < 0 && string.indexOf('"') < 0 && string.indexOf('\n') < 0) return string;
+
+        return '"' + string.replace("\"", "\"\"") + '"';
+    }
+
+}
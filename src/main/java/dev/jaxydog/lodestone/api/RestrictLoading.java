@@ -0,0 +1,50 @@
+/*
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * Copyright © 2026 Jaxydog
+ *
+ * This file is part of Lodestone.
+ *
+ * Lodestone is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option)
+ * any later version.
+ *
+ * Lodestone is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for
+ * more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with Lodestone. If not, see
+ * <https://www.gnu.org/licenses/>.
+ */
+package dev.jaxydog.lodestone.api;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * An annotation that restricts automatic loaders to only read the target value when at least one of the given
+ * environments has been registered.
+ * <p>
+ * This is typically used to skip client-only values on a dedicated server, where the {@link ClientLoaded} environment
+ * is never created. If the annotated value is a class, all instances will inherit its restriction unless specified by
+ * another {@link RestrictLoading} annotation. Annotating an {@link AutoLoader} subclass skips all of its fields.
+ *
+ * @author Jaxydog
+ * @since 1.9.0
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.FIELD, ElementType.TYPE })
+public @interface RestrictLoading {
+
+    /**
+     * The {@link Loaded} interfaces that the annotated value belongs to.
+     *
+     * @return The {@link Loaded} interfaces that the annotated value belongs to.
+     *
+     * @since 1.9.0
+     */
+    Class<? extends Loaded>[] value();
+
+}
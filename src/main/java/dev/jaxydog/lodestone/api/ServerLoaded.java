@@ -32,11 +32,23 @@ import dev.jaxydog.lodestone.impl.BundledLoader;
  * @see ClientLoaded
  * @since 1.0.0
  */
-@BundledLoader
+@BundledLoader(prepare = "prepareServer")
 public interface ServerLoaded
     extends Loaded
 {
 
+    /**
+     * Prepares this value before it is loaded.
+     * <p>
+     * This is run concurrently with the preparation of other values, before any of them are loaded by
+     * {@link #loadServer()}. It may perform expensive work such as reading files or computing data, but must not modify
+     * any shared state, such as registries.
+     *
+     * @since 1.9.0
+     */
+    default void prepareServer() {
+    }
+
     /**
      * Loads this value at runtime on the server.
      *
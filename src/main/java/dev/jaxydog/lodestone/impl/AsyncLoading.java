@@ -0,0 +1,207 @@
+/*
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * Copyright © 2026 Jaxydog
+ *
+ * This file is part of Lodestone.
+ *
+ * Lodestone is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option)
+ * any later version.
+ *
+ * Lodestone is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for
+ * more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with Lodestone. If not, see
+ * <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.lodestone.impl;
+
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Supplier;
+
+/**
+ * Schedules asynchronous loading work, and queues the tasks that must be run back on the main thread.
+ * <p>
+ * Tasks submitted to the main thread are run in the order they were submitted, by whichever thread next calls
+ * {@link #runQueuedTasks()} or {@link #await(CompletableFuture)}. Off-thread work runs on a configurable executor,
+ * which defaults to creating a virtual thread per task.
+ *
+ * @author Jaxydog
+ * @since 1.9.0
+ */
+public final class AsyncLoading {
+
+    /**
+     * A task that does nothing, used to wake a thread that is waiting for queued tasks.
+     *
+     * @since 1.9.0
+     */
+    private static final Runnable WAKE = () -> { };
+
+    /**
+     * The tasks waiting to be run on the main thread, in submission order.
+     *
+     * @since 1.9.0
+     */
+    private static final BlockingQueue<Runnable> QUEUE = new LinkedBlockingQueue<>();
+
+    /**
+     * The executor that off-thread work is run on.
+     *
+     * @since 1.9.0
+     */
+    private static volatile Executor executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * Prevents this class from being instantiated.
+     *
+     * @since 1.9.0
+     */
+    private AsyncLoading() {
+    }
+
+    /**
+     * Returns the executor that off-thread work is run on.
+     *
+     * @return The executor.
+     *
+     * @since 1.9.0
+     */
+    public static Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Sets the executor that off-thread work is run on.
+     * <p>
+     * Work that has already been submitted continues to run on the previous executor.
+     *
+     * @param executor The executor.
+     *
+     * @throws NullPointerException If the given executor is null.
+     * @since 1.9.0
+     */
+    public static void setExecutor(Executor executor) throws NullPointerException {
+        AsyncLoading.executor = Objects.requireNonNull(executor);
+    }
+
+    /**
+     * Runs the given task off of the main thread.
+     *
+     * @param task The task.
+     *
+     * @return A future that completes once the task has been run.
+     *
+     * @since 1.9.0
+     */
+    public static CompletableFuture<Void> submit(Runnable task) {
+        return CompletableFuture.runAsync(task, executor);
+    }
+
+    /**
+     * Computes a value off of the main thread.
+     *
+     * @param task The task that computes the value.
+     * @param <T> The type of the value.
+     *
+     * @return A future that completes with the computed value.
+     *
+     * @since 1.9.0
+     */
+    public static <T> CompletableFuture<T> supply(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, executor);
+    }
+
+    /**
+     * Queues the given task to be run on the main thread.
+     *
+     * @param task The task.
+     *
+     * @return A future that completes once the task has been run.
+     *
+     * @throws NullPointerException If the given task is null.
+     * @since 1.9.0
+     */
+    public static CompletableFuture<Void> queue(Runnable task) throws NullPointerException {
+        Objects.requireNonNull(task);
+
+        final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        QUEUE.add(() -> {
+            try {
+                task.run();
+
+                future.complete(null);
+            } catch (Throwable error) {
+                future.completeExceptionally(error);
+            }
+        });
+
+        return future;
+    }
+
+    /**
+     * Runs every task currently queued for the main thread, in the order they were queued.
+     * <p>
+     * Tasks queued while this method is running are also run before it returns.
+     *
+     * @return The number of tasks that were run.
+     *
+     * @since 1.9.0
+     */
+    public static int runQueuedTasks() {
+        int count = 0;
+        Runnable task;
+
+        while ((task = QUEUE.poll()) != null) {
+            if (task != WAKE) count += 1;
+
+            task.run();
+        }
+
+        return count;
+    }
+
+    /**
+     * Runs queued main thread tasks until the given future completes, then returns its result.
+     * <p>
+     * This must be used instead of {@link CompletableFuture#join()} when the future may depend on queued tasks, as
+     * joining from the main thread would otherwise never run them.
+     *
+     * @param future The future.
+     * @param <T> The type of the future's result.
+     *
+     * @return The future's result.
+     *
+     * @throws CompletionException If the future completed exceptionally, or the thread was interrupted.
+     * @since 1.9.0
+     */
+    public static <T> T await(CompletableFuture<T> future) throws CompletionException {
+        // Completing the future queues a no-op, ensuring the loop below never blocks after the future has completed.
+        future.whenComplete((result, error) -> QUEUE.add(WAKE));
+
+        while (!future.isDone()) {
+            try {
+                QUEUE.take().run();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+
+                throw new CompletionException(exception);
+            }
+        }
+
+        runQueuedTasks();
+
+        return future.join();
+    }
+
+}
@@ -34,4 +34,15 @@ import java.lang.annotation.Target;
 @Target(ElementType.TYPE)
 public @interface BundledLoader {
 
+    /**
+     * Returns the name of the interface's default preparation method, if it has one.
+     * <p>
+     * Only values that override this method are prepared, so that values which do not need preparation cost nothing.
+     *
+     * @return The name of the preparation method, or an empty string if there is none.
+     *
+     * @since 1.9.0
+     */
+    String prepare() default "";
+
 }
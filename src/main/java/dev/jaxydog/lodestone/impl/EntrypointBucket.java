@@ -0,0 +1,316 @@
+/*
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * Copyright © 2026 Jaxydog
+ *
+ * This file is part of Lodestone.
+ *
+ * Lodestone is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option)
+ * any later version.
+ *
+ * Lodestone is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for
+ * more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with Lodestone. If not, see
+ * <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.lodestone.impl;
+
+import dev.jaxydog.lodestone.api.LoadOrder;
+import dev.jaxydog.lodestone.api.Loaded;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import net.minecraft.util.Identifier;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * An insertion-ordered set of entrypoints, each associated with its loading priority and loading order constraints.
+ * <p>
+ * Small buckets check for duplicates with a linear scan, as most mods only register a handful of values per
+ * environment. Once a bucket grows beyond {@link #INDEX_THRESHOLD} entrypoints, a hash index is built so that further
+ * duplicate checks happen in constant time.
+ * <p>
+ * All mutating methods are synchronized, allowing entrypoints to be added from multiple threads. A bucket's contents
+ * should only be read after being {@link #close() closed}, which moves them into a new bucket that is owned by the
+ * reading thread. Once read, each entrypoint may be {@link #release(int) released} so that it can be collected as soon
+ * as it has loaded.
+ *
+ * @param <T> The type of the stored entrypoints.
+ *
+ * @author Jaxydog
+ * @since 1.9.0
+ */
+final class EntrypointBucket<T extends Loaded> {
+
+    /**
+     * The number of entrypoints above which a hash index is used to detect duplicates.
+     *
+     * @since 1.9.0
+     */
+    static final int INDEX_THRESHOLD = 16;
+
+    /**
+     * The stored entrypoints, in insertion order.
+     *
+     * @since 1.9.0
+     */
+    private ObjectArrayList<T> values = new ObjectArrayList<>();
+    /**
+     * The loading priority of each stored entrypoint.
+     *
+     * @since 1.9.0
+     */
+    private IntArrayList priorities = new IntArrayList();
+    /**
+     * The loading order constraints of each stored entrypoint.
+     *
+     * @since 1.9.0
+     */
+    private ObjectArrayList<LoadOrder> orders = new ObjectArrayList<>();
+
+    /**
+     * A hash index of the stored entrypoints, only present once the bucket has grown beyond {@link #INDEX_THRESHOLD}.
+     *
+     * @since 1.9.0
+     */
+    private @Nullable Set<T> index;
+    /**
+     * Whether this bucket has been closed, and no longer accepts entrypoints.
+     *
+     * @since 1.9.0
+     */
+    private boolean closed;
+    /**
+     * Whether any stored entrypoint has loading order constraints.
+     *
+     * @since 1.9.0
+     */
+    private boolean ordered;
+
+    /**
+     * Creates a new, empty {@link EntrypointBucket}.
+     *
+     * @since 1.9.0
+     */
+    EntrypointBucket() {
+    }
+
+    /**
+     * Creates a new {@link EntrypointBucket} containing the given entrypoints.
+     *
+     * @param values The stored entrypoints, in insertion order.
+     * @param priorities The loading priority of each stored entrypoint.
+     * @param orders The loading order constraints of each stored entrypoint.
+     * @param ordered Whether any stored entrypoint has loading order constraints.
+     *
+     * @since 1.9.0
+     */
+    private EntrypointBucket(
+        ObjectArrayList<T> values, IntArrayList priorities, ObjectArrayList<LoadOrder> orders, boolean ordered
+    ) {
+        this.values = values;
+        this.priorities = priorities;
+        this.orders = orders;
+        this.ordered = ordered;
+    }
+
+    /**
+     * Adds the given entrypoint, if it has not already been added.
+     * <p>
+     * Duplicate entrypoints are silently ignored. If this bucket has been closed, the entrypoint is rejected, and must
+     * be added to a new bucket instead.
+     *
+     * @param value The entrypoint.
+     * @param priority The entrypoint's loading priority.
+     * @param order The entrypoint's loading order constraints.
+     *
+     * @return Whether the bucket accepted the entrypoint, which is only false if the bucket has been closed.
+     *
+     * @since 1.9.0
+     */
+    synchronized boolean add(T value, int priority, LoadOrder order) {
+        if (this.closed) return false;
+
+        this.append(value, priority, order);
+
+        return true;
+    }
+
+    /**
+     * Adds all the given entrypoints that have not already been added, sharing a single loading priority and loading
+     * order.
+     * <p>
+     * The bucket is grown once to fit every entrypoint, and the entrypoints are either all accepted or all rejected.
+     *
+     * @param values The entrypoints, in insertion order.
+     * @param priority The entrypoints' loading priority.
+     * @param order The entrypoints' loading order constraints.
+     *
+     * @return Whether the bucket accepted the entrypoints, which is only false if the bucket has been closed.
+     *
+     * @since 1.9.0
+     */
+    synchronized boolean addAll(List<? extends T> values, int priority, LoadOrder order) {
+        if (this.closed) return false;
+
+        final int expected = this.values.size() + values.size();
+
+        this.values.ensureCapacity(expected);
+        this.priorities.ensureCapacity(expected);
+        this.orders.ensureCapacity(expected);
+
+        // Large batches build their index up-front, rather than scanning linearly until the threshold is reached.
+        if (this.index == null && expected > INDEX_THRESHOLD) {
+            this.index = new ObjectOpenHashSet<>(expected);
+
+            this.index.addAll(this.values);
+        }
+
+        for (int index = 0; index < values.size(); index += 1) this.append(values.get(index), priority, order);
+
+        return true;
+    }
+
+    /**
+     * Appends the given entrypoint, if it has not already been added.
+     * <p>
+     * Callers must hold this bucket's lock.
+     *
+     * @param value The entrypoint.
+     * @param priority The entrypoint's loading priority.
+     * @param order The entrypoint's loading order constraints.
+     *
+     * @since 1.9.0
+     */
+    private void append(T value, int priority, LoadOrder order) {
+        if (this.index != null) {
+            if (!this.index.add(value)) return;
+        } else if (this.values.contains(value)) {
+            return;
+        }
+
+        this.values.add(value);
+        this.priorities.add(priority);
+        this.orders.add(order);
+
+        if (!order.isEmpty()) this.ordered = true;
+
+        if (this.index == null && this.values.size() > INDEX_THRESHOLD) {
+            this.index = new ObjectOpenHashSet<>(this.values);
+        }
+    }
+
+    /**
+     * Returns the entrypoint at the given index.
+     *
+     * @param index The index.
+     *
+     * @return The entrypoint.
+     *
+     * @since 1.9.0
+     */
+    T get(int index) {
+        return this.values.get(index);
+    }
+
+    /**
+     * Returns the loading priority of the entrypoint at the given index.
+     *
+     * @param index The index.
+     *
+     * @return The entrypoint's loading priority.
+     *
+     * @since 1.9.0
+     */
+    int getPriority(int index) {
+        return this.priorities.getInt(index);
+    }
+
+    /**
+     * Returns the loading order constraints of the entrypoint at the given index.
+     *
+     * @param index The index.
+     *
+     * @return The entrypoint's loading order constraints.
+     *
+     * @since 1.9.0
+     */
+    LoadOrder getOrder(int index) {
+        return this.orders.get(index);
+    }
+
+    /**
+     * Returns whether any stored entrypoint has loading order constraints.
+     *
+     * @return Whether any entrypoint is ordered.
+     *
+     * @since 1.9.0
+     */
+    boolean isOrdered() {
+        return this.ordered;
+    }
+
+    /**
+     * Adds the loader identifier of every stored entrypoint to the given set.
+     *
+     * @param identifiers The set of identifiers.
+     *
+     * @since 1.9.0
+     */
+    synchronized void collectLoaderIds(Set<Identifier> identifiers) {
+        for (final T value : this.values) identifiers.add(value.getLoaderId());
+    }
+
+    /**
+     * Returns the number of stored entrypoints.
+     *
+     * @return The number of stored entrypoints.
+     *
+     * @since 1.9.0
+     */
+    int size() {
+        return this.values.size();
+    }
+
+    /**
+     * Releases the entrypoint at the given index, allowing it to be garbage collected.
+     * <p>
+     * This should only be called on a bucket owned by the current thread, as released slots read as null.
+     *
+     * @param index The index.
+     *
+     * @since 1.9.0
+     */
+    void release(int index) {
+        this.values.set(index, null);
+    }
+
+    /**
+     * Closes this bucket, moving all stored entrypoints into a new bucket and rejecting any further additions.
+     *
+     * @return A new bucket containing the stored entrypoints.
+     *
+     * @since 1.9.0
+     */
+    synchronized EntrypointBucket<T> close() {
+        final EntrypointBucket<T> drained = new EntrypointBucket<>(
+            this.values, this.priorities, this.orders, this.ordered
+        );
+
+        this.values = new ObjectArrayList<>(0);
+        this.priorities = new IntArrayList(0);
+        this.orders = new ObjectArrayList<>(0);
+        this.index = null;
+        this.closed = true;
+
+        return drained;
+    }
+
+}
@@ -0,0 +1,454 @@
+/*
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * Copyright © 2026 Jaxydog
+ *
+ * This file is part of Lodestone.
+ *
+ * Lodestone is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option)
+ * any later version.
+ *
+ * Lodestone is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for
+ * more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with Lodestone. If not, see
+ * <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.lodestone.impl;
+
+import dev.jaxydog.lodestone.api.Loaded;
+import it.unimi.dsi.fastutil.objects.ObjectLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.fabricmc.loader.api.FabricLoader;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.security.CodeSource;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Reloads {@link dev.jaxydog.lodestone.api.AutoLoader} trees whose classes change during development.
+ * <p>
+ * Reloading is only enabled if the {@code lodestone.reload} system property is set to {@code true}, and is always
+ * disabled outside of development environments. Once enabled, the class directories of every registered loader are
+ * watched for changes. When a loader's class file changes, which typically happens after the IDE hot-swaps it, each of
+ * its previously loaded values is passed to its environment's unload hook, if any, before those same values are loaded
+ * again. No other registered values are loaded.
+ * <p>
+ * A class's static initializer cannot be run again, so reloading never creates new values. This only helps with
+ * hot-swapped method bodies, such as a value's loading method; changes to field initializers or added fields still
+ * require a restart.
+ * <p>
+ * Reloads are queued to run on the main thread, so they only take effect once
+ * {@link dev.jaxydog.lodestone.Lodestone#runQueuedTasks()} is next called. Lodestone never calls it by itself, so a
+ * mod that wants to reload must call it, such as from a client tick event.
+ *
+ * @author Jaxydog
+ * @since 1.9.0
+ */
+public final class HotReloader {
+
+    /**
+     * Whether reloading was requested.
+     *
+     * @since 1.9.0
+     */
+    public static final boolean ENABLED = Boolean.getBoolean("lodestone.reload");
+
+    /**
+     * The reloader's logger.
+     *
+     * @since 1.9.0
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger("Lodestone/Reload");
+    /**
+     * How long to wait for further changes after a change is detected, in milliseconds.
+     * <p>
+     * Compilers write many class files at once, which should all be handled by a single reload.
+     *
+     * @since 1.9.0
+     */
+    private static final long SETTLE_MILLIS = 250L;
+
+    /**
+     * The tracked loader trees, keyed by their root loader's identity.
+     *
+     * @since 1.9.0
+     */
+    private static final Map<Object, Tracked> TRACKED = new ConcurrentHashMap<>();
+    /**
+     * The unload hooks of each {@link Loaded} interface.
+     *
+     * @since 1.9.0
+     */
+    private static final Map<Class<?>, Consumer<? super Loaded>> UNLOAD_HOOKS = new ConcurrentHashMap<>();
+    /**
+     * The class directories that each watch key belongs to.
+     *
+     * @since 1.9.0
+     */
+    private static final Map<WatchKey, Watched> WATCHED = new ConcurrentHashMap<>();
+    /**
+     * The class directories that are already being watched.
+     *
+     * @since 1.9.0
+     */
+    private static final Set<Path> ROOTS = ConcurrentHashMap.newKeySet();
+
+    /**
+     * The file watcher, if reloading is active.
+     *
+     * @since 1.9.0
+     */
+    private static volatile @Nullable WatchService watcher;
+    /**
+     * Loads previously loaded values of a {@link Loaded} interface again, if reloading is active.
+     *
+     * @since 1.9.0
+     */
+    private static volatile @Nullable BiConsumer<Class<? extends Loaded>, Set<Loaded>> loader;
+
+    /**
+     * Prevents this class from being instantiated.
+     *
+     * @since 1.9.0
+     */
+    private HotReloader() {
+    }
+
+    /**
+     * Starts watching for changed classes, if reloading is enabled and this is a development environment.
+     *
+     * @param reload A method that loads previously loaded values of a {@link Loaded} interface again, without loading
+     * any other values.
+     *
+     * @since 1.9.0
+     */
+    public static void install(BiConsumer<Class<? extends Loaded>, Set<Loaded>> reload) {
+        if (!ENABLED) return;
+
+        if (!FabricLoader.getInstance().isDevelopmentEnvironment()) {
+            LOGGER.warn("Hot reloading is disabled outside of development environments");
+
+            return;
+        }
+
+        try {
+            watcher = FileSystems.getDefault().newWatchService();
+        } catch (IOException exception) {
+            LOGGER.error("Unable to start watching for changed classes: {}", exception.getLocalizedMessage());
+
+            return;
+        }
+
+        loader = reload;
+
+        final Thread thread = new Thread(HotReloader::watch, "Lodestone Hot Reload");
+
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Returns whether reloading is active.
+     *
+     * @return Whether reloading is active.
+     *
+     * @since 1.9.0
+     */
+    public static boolean isActive() {
+        return watcher != null;
+    }
+
+    /**
+     * Sets the hook that is run for each previously loaded value of the given interface before it is reloaded.
+     *
+     * @param type The {@link Loaded} interface.
+     * @param unload The unload hook.
+     * @param <T> The type of the {@link Loaded} interface.
+     *
+     * @since 1.9.0
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Loaded> void setUnloadHook(Class<? extends T> type, Consumer<? super T> unload) {
+        UNLOAD_HOOKS.put(type, (Consumer<? super Loaded>) unload);
+    }
+
+    /**
+     * Tracks a loader tree that has just been registered, merging it with any previous registration of the same tree.
+     * <p>
+     * Loaders are often registered once per {@link Loaded} interface, so each registration adds to the values that are
+     * reloaded rather than replacing them.
+     *
+     * @param root The root loader.
+     * @param classes The classes of every loader within the tree.
+     * @param registered The values that were registered, grouped by their {@link Loaded} interface.
+     *
+     * @since 1.9.0
+     */
+    public static void track(Object root, Set<Class<?>> classes, Map<Class<? extends Loaded>, Set<Loaded>> registered) {
+        if (!isActive()) return;
+
+        final Set<String> names = new ObjectOpenHashSet<>(classes.size());
+
+        for (final Class<?> type : classes) {
+            names.add(getTopLevelName(type.getName()));
+
+            watchSource(type);
+        }
+
+        TRACKED.merge(root, new Tracked(Set.copyOf(names), registered), Tracked::merge);
+    }
+
+    /**
+     * Watches the class directory that the given class was loaded from, if it was loaded from a directory.
+     *
+     * @param type The class.
+     *
+     * @since 1.9.0
+     */
+    private static void watchSource(Class<?> type) {
+        final CodeSource source = type.getProtectionDomain().getCodeSource();
+        final WatchService service = watcher;
+
+        if (source == null || source.getLocation() == null || service == null) return;
+
+        final Path root;
+
+        try {
+            root = Path.of(source.getLocation().toURI());
+        } catch (URISyntaxException | IllegalArgumentException exception) {
+            return;
+        }
+
+        if (!Files.isDirectory(root) || !ROOTS.add(root)) return;
+
+        LOGGER.info("Watching '{}' for changed classes", root);
+
+        register(service, root, root);
+    }
+
+    /**
+     * Watches the given directory and all of its subdirectories.
+     *
+     * @param service The file watcher.
+     * @param root The class directory that the directory belongs to.
+     * @param directory The directory.
+     *
+     * @since 1.9.0
+     */
+    private static void register(WatchService service, Path root, Path directory) {
+        try (final Stream<Path> paths = Files.walk(directory)) {
+            for (final Path path : paths.filter(Files::isDirectory).toList()) {
+                final WatchKey key = path.register(
+                    service, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY
+                );
+
+                WATCHED.put(key, new Watched(root, path));
+            }
+        } catch (IOException | ClosedWatchServiceException exception) {
+            LOGGER.warn("Unable to watch '{}': {}", directory, exception.getLocalizedMessage());
+        }
+    }
+
+    /**
+     * Waits for changed classes, queueing a reload of every affected loader tree once the changes have settled.
+     *
+     * @since 1.9.0
+     */
+    private static void watch() {
+        final WatchService service = watcher;
+
+        if (service == null) return;
+
+        try {
+            while (true) {
+                final Set<String> changed = new ObjectOpenHashSet<>();
+                WatchKey key = service.take();
+
+                while (key != null) {
+                    poll(service, key, changed);
+
+                    key = service.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS);
+                }
+
+                if (!changed.isEmpty()) reloadChanged(changed);
+            }
+        } catch (InterruptedException | ClosedWatchServiceException exception) {
+            LOGGER.debug("Stopped watching for changed classes");
+        }
+    }
+
+    /**
+     * Collects the top-level names of the classes changed within the given watch key's events.
+     *
+     * @param service The file watcher.
+     * @param key The watch key.
+     * @param changed The changed class names.
+     *
+     * @since 1.9.0
+     */
+    private static void poll(WatchService service, WatchKey key, Set<String> changed) {
+        final Watched watched = WATCHED.get(key);
+
+        for (final WatchEvent<?> event : key.pollEvents()) {
+            if (watched == null || !(event.context() instanceof final Path name)) continue;
+
+            final Path path = watched.directory().resolve(name);
+
+            if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(path)) {
+                register(service, watched.root(), path);
+            } else if (name.toString().endsWith(".class")) {
+                changed.add(getTopLevelName(watched.root().relativize(path)));
+            }
+        }
+
+        if (!key.reset()) WATCHED.remove(key);
+    }
+
+    /**
+     * Queues a reload of every tracked loader tree that contains any of the given classes.
+     *
+     * @param changed The top-level names of the changed classes.
+     *
+     * @since 1.9.0
+     */
+    private static void reloadChanged(Set<String> changed) {
+        final List<Tracked> affected = TRACKED.values()
+            .stream()
+            .filter(tracked -> tracked.classes().stream().anyMatch(changed::contains))
+            .toList();
+
+        if (affected.isEmpty()) return;
+
+        LOGGER.info("Queued a reload of {} loaders after {} classes changed", affected.size(), changed.size());
+
+        for (final Tracked tracked : affected) AsyncLoading.queue(() -> reload(tracked));
+    }
+
+    /**
+     * Unloads and loads the values of the given loader tree.
+     *
+     * @param tracked The loader tree.
+     *
+     * @since 1.9.0
+     */
+    private static void reload(Tracked tracked) {
+        final BiConsumer<Class<? extends Loaded>, Set<Loaded>> reload = loader;
+
+        if (reload == null) return;
+
+        for (final Map.Entry<Class<? extends Loaded>, Set<Loaded>> entry : tracked.registered().entrySet()) {
+            final Consumer<? super Loaded> unload = UNLOAD_HOOKS.get(entry.getKey());
+
+            if (unload != null) entry.getValue().forEach(unload);
+        }
+
+        tracked.registered().forEach(reload);
+    }
+
+    /**
+     * Returns the top-level class name of the given class file, relative to its class directory.
+     *
+     * @param path The class file's relative path.
+     *
+     * @return The top-level class name.
+     *
+     * @since 1.9.0
+     */
+    private static String getTopLevelName(Path path) {
+        final String file = path.toString().replace(path.getFileSystem().getSeparator(), ".");
+
+        return getTopLevelName(file.substring(0, file.length() - ".class".length()));
+    }
+
+    /**
+     * Returns the top-level class name of the given binary class name.
+     *
+     * @param name The binary class name.
+     *
+     * @return The top-level class name.
+     *
+     * @since 1.9.0
+     */
+    private static String getTopLevelName(String name) {
+        final int nested = name.indexOf('$');
+
+        return nested < 0 ? name : name.substring(0, nested);
+    }
+
+    /**
+     * A tracked loader tree.
+     *
+     * @param classes The top-level names of the classes of every loader within the tree.
+     * @param registered The values that were registered, grouped by their {@link Loaded} interface.
+     *
+     * @author Jaxydog
+     * @since 1.9.0
+     */
+    private record Tracked(Set<String> classes, Map<Class<? extends Loaded>, Set<Loaded>> registered) {
+
+        /**
+         * Returns a tree containing the classes and values of both this tree and the given tree.
+         *
+         * @param other The other tree.
+         *
+         * @return The merged tree.
+         *
+         * @since 1.9.0
+         */
+        private Tracked merge(Tracked other) {
+            final Set<String> classes = new ObjectOpenHashSet<>(this.classes());
+            final Map<Class<? extends Loaded>, Set<Loaded>> registered = new Reference2ObjectOpenHashMap<>(
+                this.registered()
+            );
+
+            classes.addAll(other.classes());
+
+            other.registered().forEach((type, values) -> registered.merge(type, values, (previous, added) -> {
+                final Set<Loaded> union = new ObjectLinkedOpenHashSet<>(previous);
+
+                union.addAll(added);
+
+                return union;
+            }));
+
+            return new Tracked(Set.copyOf(classes), registered);
+        }
+
+    }
+
+    /**
+     * A watched directory.
+     *
+     * @param root The class directory that the directory belongs to.
+     * @param directory The directory.
+     *
+     * @author Jaxydog
+     * @since 1.9.0
+     */
+    private record Watched(Path root, Path directory) { }
+
+}
@@ -0,0 +1,370 @@
+/*
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * Copyright © 2026 Jaxydog
+ *
+ * This file is part of Lodestone.
+ *
+ * Lodestone is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option)
+ * any later version.
+ *
+ * Lodestone is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for
+ * more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with Lodestone. If not, see
+ * <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.lodestone.impl;
+
+import net.fabricmc.loader.api.FabricLoader;
+import net.minecraft.util.Identifier;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compares each mod's entrypoint loading time against a fixed budget and against a baseline from a previous launch.
+ * <p>
+ * Budgeting is only enabled if the {@code lodestone.budget} system property is set to {@code true}. Once enabled, the
+ * time spent preparing and loading each mod's entrypoints is measured for every environment, and a warning is logged
+ * whenever a mod exceeds the number of milliseconds given by the {@code lodestone.budget.limit} system property, or
+ * becomes slower than its baseline by more than the percentage given by the {@code lodestone.budget.threshold} system
+ * property. Each warning lists the mod's entrypoints that grew the most by their loader identifiers.
+ * <p>
+ * Each entrypoint is also compared against its own baseline, so that a single slower entrypoint is reported even if
+ * its mod remains within its budget, such as when other entrypoints became faster.
+ * <p>
+ * The baseline is stored within the game directory. It is written when the game exits if it does not yet exist, or if
+ * the {@code lodestone.budget.update} system property is set to {@code true}.
+ *
+ * @author Jaxydog
+ * @since 1.9.0
+ */
+public final class LoadBudget {
+
+    /**
+     * Whether budgeting is enabled.
+     *
+     * @since 1.9.0
+     */
+    public static final boolean ENABLED = Boolean.getBoolean("lodestone.budget");
+
+    /**
+     * The number of nanoseconds that a mod may spend loading an environment's entrypoints, or zero if unlimited.
+     *
+     * @since 1.9.0
+     */
+    private static final long LIMIT = TimeUnit.MILLISECONDS.toNanos(Long.getLong("lodestone.budget.limit", 0L));
+    /**
+     * The percentage by which a mod may exceed its baseline before it is reported.
+     *
+     * @since 1.9.0
+     */
+    private static final int THRESHOLD = Integer.getInteger("lodestone.budget.threshold", 25);
+    /**
+     * The smallest regression that is reported, in nanoseconds, which prevents timer noise within quick mods from being
+     * reported.
+     *
+     * @since 1.9.0
+     */
+    private static final long MINIMUM_REGRESSION = TimeUnit.MILLISECONDS.toNanos(1L);
+    /**
+     * Whether the baseline should be replaced when the game exits.
+     *
+     * @since 1.9.0
+     */
+    private static final boolean UPDATE = Boolean.getBoolean("lodestone.budget.update");
+    /**
+     * The maximum number of entrypoints listed within a single warning.
+     *
+     * @since 1.9.0
+     */
+    private static final int REPORTED_ENTRYPOINTS = 5;
+    /**
+     * The budget's logger.
+     *
+     * @since 1.9.0
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger("Lodestone/Budget");
+
+    /**
+     * The measured nanoseconds of each mod and entrypoint, keyed by their environment and identifier.
+     *
+     * @since 1.9.0
+     */
+    private static final Map<String, Long> MEASURED = new ConcurrentHashMap<>();
+    /**
+     * The keys of the mods and entrypoints that have already been reported.
+     *
+     * @since 1.9.0
+     */
+    private static final Set<String> REPORTED = ConcurrentHashMap.newKeySet();
+
+    /**
+     * The baseline nanoseconds of each mod and entrypoint, keyed by their environment and identifier.
+     *
+     * @since 1.9.0
+     */
+    private static volatile Map<String, Long> baseline = Map.of();
+
+    /**
+     * Prevents this class from being instantiated.
+     *
+     * @since 1.9.0
+     */
+    private LoadBudget() {
+    }
+
+    /**
+     * Reads the baseline and writes it back when the game exits, if budgeting is enabled.
+     *
+     * @since 1.9.0
+     */
+    public static void install() {
+        if (!ENABLED) return;
+
+        final Path path = FabricLoader.getInstance().getGameDir().resolve(".lodestone").resolve("budget.properties");
+        final boolean exists = read(path);
+
+        if (LIMIT <= 0 && !exists) {
+            LOGGER.info("No load budget or baseline is set, so this launch will only record a baseline");
+        }
+
+        if (exists && !UPDATE) return;
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> write(path), "Lodestone Budget"));
+    }
+
+    /**
+     * Records the time spent loading a single entrypoint, reporting the entrypoint if it has regressed.
+     * <p>
+     * Entrypoints are reported at most once per environment.
+     *
+     * @param environment The simple name of the entrypoint's {@link dev.jaxydog.lodestone.api.Loaded} interface.
+     * @param loaderId The entrypoint's loader identifier.
+     * @param start The measurement's starting timestamp.
+     *
+     * @since 1.9.0
+     */
+    public static void recordEntrypoint(String environment, Identifier loaderId, long start) {
+        if (!ENABLED) return;
+
+        final String key = environment + '/' + loaderId;
+        final long nanos = MEASURED.merge(key, System.nanoTime() - start, Long::sum);
+        final @Nullable Long previous = baseline.get(key);
+
+        if (previous == null || !isRegression(previous, nanos) || !REPORTED.add(key)) return;
+
+        LOGGER.warn(
+            "Entrypoint '{}' took {} ms to load as '{}', up from {} ms",
+            loaderId,
+            toMillis(nanos),
+            environment,
+            toMillis(previous)
+        );
+    }
+
+    /**
+     * Records the time spent loading a mod's entrypoints, reporting the mod if it is over its budget or has regressed.
+     * <p>
+     * Mods are reported at most once per environment, even if their entrypoints are loaded in several passes.
+     *
+     * @param environment The simple name of the loaded {@link dev.jaxydog.lodestone.api.Loaded} interface.
+     * @param modId The loaded mod's identifier.
+     * @param start The measurement's starting timestamp.
+     *
+     * @since 1.9.0
+     */
+    public static void recordMod(String environment, String modId, long start) {
+        if (!ENABLED) return;
+
+        final String key = environment + '/' + modId;
+        final long nanos = MEASURED.merge(key, System.nanoTime() - start, Long::sum);
+        final @Nullable Long previous = baseline.get(key);
+
+        final boolean overBudget = LIMIT > 0 && nanos > LIMIT;
+        final boolean regressed = previous != null && isRegression(previous, nanos);
+
+        if ((!overBudget && !regressed) || !REPORTED.add(key)) return;
+
+        final String entrypoints = describeEntrypoints(environment + '/' + modId + ':');
+
+        if (regressed) {
+            LOGGER.warn(
+                "Mod '{}' took {} ms to load its '{}' entrypoints, up from {} ms: {}",
+                modId,
+                toMillis(nanos),
+                environment,
+                toMillis(previous),
+                entrypoints
+            );
+        } else {
+            LOGGER.warn(
+                "Mod '{}' took {} ms to load its '{}' entrypoints, exceeding the {} ms budget: {}",
+                modId,
+                toMillis(nanos),
+                environment,
+                toMillis(LIMIT),
+                entrypoints
+            );
+        }
+    }
+
+    /**
+     * Returns whether the given measurement is a regression from the given baseline.
+     *
+     * @param previous The baseline nanoseconds.
+     * @param nanos The measured nanoseconds.
+     *
+     * @return Whether the measurement exceeds the baseline by more than the threshold.
+     *
+     * @since 1.9.0
+     */
+    private static boolean isRegression(long previous, long nanos) {
+        final long difference = nanos - previous;
+
+        return difference >= MINIMUM_REGRESSION && difference * 100 > previous * THRESHOLD;
+    }
+
+    /**
+     * Describes the measured entrypoints whose keys begin with the given prefix, ordered by how much they grew from
+     * their baselines.
+     * <p>
+     * Entrypoints without a baseline are treated as having grown by their entire duration.
+     *
+     * @param prefix The prefix shared by the entrypoints' keys.
+     *
+     * @return A description of the entrypoints that grew the most.
+     *
+     * @since 1.9.0
+     */
+    private static String describeEntrypoints(String prefix) {
+        final Map<String, Long> previous = baseline;
+        final Comparator<Map.Entry<String, Long>> growth = Comparator.comparingLong(
+            entry -> entry.getValue() - previous.getOrDefault(entry.getKey(), 0L)
+        );
+
+        return MEASURED.entrySet()
+            .stream()
+            .filter(entry -> entry.getKey().startsWith(prefix))
+            .sorted(growth.reversed())
+            .limit(REPORTED_ENTRYPOINTS)
+            .map(entry -> describeEntrypoint(entry.getKey(), entry.getValue(), previous.get(entry.getKey())))
+            .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Describes a single measured entrypoint.
+     *
+     * @param key The entrypoint's key.
+     * @param nanos The entrypoint's measured nanoseconds.
+     * @param previous The entrypoint's baseline nanoseconds, if any.
+     *
+     * @return A description of the entrypoint.
+     *
+     * @since 1.9.0
+     */
+    private static String describeEntrypoint(String key, long nanos, @Nullable Long previous) {
+        final String loaderId = key.substring(key.indexOf('/') + 1);
+
+        if (baseline.isEmpty()) return "%s (%s ms)".formatted(loaderId, toMillis(nanos));
+        if (previous == null) return "%s (%s ms, new)".formatted(loaderId, toMillis(nanos));
+
+        return "%s (%s ms, was %s ms)".formatted(loaderId, toMillis(nanos), toMillis(previous));
+    }
+
+    /**
+     * Returns the given duration as a string of milliseconds.
+     *
+     * @param nanos The duration in nanoseconds.
+     *
+     * @return The duration in milliseconds.
+     *
+     * @since 1.9.0
+     */
+    private static String toMillis(long nanos) {
+        return "%.2f".formatted(nanos / 1_000_000.0);
+    }
+
+    /**
+     * Reads the baseline from the given path.
+     *
+     * @param path The baseline's path.
+     *
+     * @return Whether the baseline was read.
+     *
+     * @since 1.9.0
+     */
+    private static boolean read(Path path) {
+        final Properties properties = new Properties();
+
+        try (final Reader reader = Files.newBufferedReader(path)) {
+            properties.load(reader);
+        } catch (NoSuchFileException exception) {
+            return false;
+        } catch (IOException exception) {
+            LOGGER.error("Unable to read load baseline '{}': {}", path, exception.getLocalizedMessage());
+
+            return false;
+        }
+
+        final Map<String, Long> values = new ConcurrentHashMap<>(properties.size());
+
+        for (final String key : properties.stringPropertyNames()) {
+            try {
+                values.put(key, Long.parseLong(properties.getProperty(key)));
+            } catch (NumberFormatException exception) {
+                LOGGER.warn("Skipping invalid load baseline entry '{}'", key);
+            }
+        }
+
+        baseline = values;
+
+        LOGGER.debug("Read {} load baseline entries from '{}'", values.size(), path);
+
+        return true;
+    }
+
+    /**
+     * Writes every measurement to the given path as the new baseline.
+     *
+     * @param path The baseline's path.
+     *
+     * @since 1.9.0
+     */
+    private static void write(Path path) {
+        try {
+            Files.createDirectories(path.getParent());
+
+            try (final Writer writer = Files.newBufferedWriter(path)) {
+                writer.write("# Lodestone load baseline, in nanoseconds\n");
+
+                // Properties are written by hand so that their keys are sorted, keeping the baseline easy to compare.
+                for (final Map.Entry<String, Long> entry : new TreeMap<>(MEASURED).entrySet()) {
+                    writer.write(entry.getKey().replace(":", "\\:") + '=' + entry.getValue() + '\n');
+                }
+            }
+        } catch (IOException exception) {
+            LOGGER.error("Unable to write load baseline '{}': {}", path, exception.getLocalizedMessage());
+        }
+    }
+
+}
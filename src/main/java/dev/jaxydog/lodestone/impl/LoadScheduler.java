@@ -0,0 +1,426 @@
+/*
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * Copyright © 2026 Jaxydog
+ *
+ * This file is part of Lodestone.
+ *
+ * Lodestone is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option)
+ * any later version.
+ *
+ * Lodestone is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for
+ * more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with Lodestone. If not, see
+ * <https://www.gnu.org/licenses/>.
+ */
+package dev.jaxydog.lodestone.impl;
+
+import dev.jaxydog.lodestone.api.LoadOrder;
+import dev.jaxydog.lodestone.api.Loaded;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntComparator;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import net.minecraft.util.Identifier;
+
+import java.util.BitSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Orders a batch of entrypoints according to their {@link LoadOrder loading order constraints}.
+ * <p>
+ * Entrypoints are sorted topologically. Whenever several entrypoints are ready to load, the one that was registered
+ * first is loaded first, so a batch without constraints keeps its registration order. Entrypoints that must load after
+ * a value that is still waiting outside of the batch are deferred, along with every entrypoint that depends on them.
+ * <p>
+ * Entrypoints that form a dependency cycle cannot be sorted, so they are reported separately from the entrypoints that
+ * are only blocked by a cycle, which are ordered as though every cycle had already loaded.
+ *
+ * @author Jaxydog
+ * @since 1.9.0
+ */
+final class LoadScheduler {
+
+    /**
+     * Prevents this class from being instantiated.
+     *
+     * @since 1.9.0
+     */
+    private LoadScheduler() {
+    }
+
+    /**
+     * Schedules the given batch of entrypoints.
+     * <p>
+     * If the batch is scheduled in parallel, entrypoints are grouped into waves, each of which only depends on earlier
+     * waves. Within a wave, entrypoints are sorted by descending priority, so that each priority forms a consecutive
+     * band.
+     *
+     * @param bucket The batch of entrypoints.
+     * @param pending The loader identifiers of entrypoints that are waiting to be loaded outside of the batch.
+     * @param parallel Whether to group the entrypoints into waves.
+     * @param <T> The type of the scheduled entrypoints.
+     *
+     * @return The batch's schedule.
+     *
+     * @since 1.9.0
+     */
+    static <T extends Loaded> Schedule schedule(EntrypointBucket<T> bucket, Set<Identifier> pending, boolean parallel) {
+        final int size = bucket.size();
+        final Map<Identifier, IntArrayList> byId = new Object2ObjectOpenHashMap<>(size);
+
+        for (int index = 0; index < size; index += 1) {
+            byId.computeIfAbsent(bucket.get(index).getLoaderId(), id -> new IntArrayList(1)).add(index);
+        }
+
+        final IntArrayList[] successors = new IntArrayList[size];
+        final int[] predecessors = new int[size];
+        final BitSet deferred = new BitSet(size);
+        final Set<Identifier> late = new ObjectOpenHashSet<>();
+
+        for (int index = 0; index < size; index += 1) {
+            final LoadOrder order = bucket.getOrder(index);
+            final String namespace = bucket.get(index).getLoaderId().getNamespace();
+
+            for (final Identifier after : order.after()) {
+                final IntArrayList targets = byId.get(after);
+
+                if (targets != null) {
+                    for (int target = 0; target < targets.size(); target += 1) {
+                        addEdge(successors, predecessors, targets.getInt(target), index);
+                    }
+                } else if (pending.contains(after)) {
+                    deferred.set(index);
+                }
+            }
+
+            for (final Identifier before : order.before()) {
+                final IntArrayList targets = byId.get(before);
+
+                // Targets outside of the batch will either load later anyway, or have already loaded or never will.
+                if (targets == null) {
+                    if (!pending.contains(before) && !before.getNamespace().equals(namespace)) late.add(before);
+
+                    continue;
+                }
+
+                for (int target = 0; target < targets.size(); target += 1) {
+                    addEdge(successors, predecessors, index, targets.getInt(target));
+                }
+            }
+        }
+
+        deferDependents(successors, deferred);
+
+        final BitSet ready = new BitSet(size);
+
+        for (int index = 0; index < size; index += 1) {
+            if (predecessors[index] == 0 && !deferred.get(index)) ready.set(index);
+        }
+
+        final IntArrayList order = new IntArrayList(size);
+        final IntArrayList waves = new IntArrayList();
+
+        if (parallel) {
+            scheduleWaves(bucket, successors, predecessors, deferred, ready, order, waves);
+        } else {
+            scheduleSequential(successors, predecessors, deferred, ready, order);
+        }
+
+        final BitSet scheduled = new BitSet(size);
+
+        for (int index = 0; index < order.size(); index += 1) scheduled.set(order.getInt(index));
+
+        final BitSet unscheduled = new BitSet(size);
+
+        for (int index = 0; index < size; index += 1) {
+            if (!scheduled.get(index) && !deferred.get(index)) unscheduled.set(index);
+        }
+
+        final BitSet cyclic = findCycles(successors, unscheduled);
+        final IntArrayList blocked = new IntArrayList();
+
+        if (!cyclic.isEmpty()) scheduleBlocked(successors, predecessors, deferred, cyclic, blocked);
+
+        return new Schedule(
+            order.toIntArray(),
+            waves.toIntArray(),
+            deferred.stream().toArray(),
+            cyclic.stream().toArray(),
+            blocked.toIntArray(),
+            late
+        );
+    }
+
+    /**
+     * Adds an edge to the dependency graph, ignoring entrypoints that depend on themselves.
+     *
+     * @param successors The entrypoints that depend on each entrypoint.
+     * @param predecessors The number of unloaded entrypoints that each entrypoint depends on.
+     * @param from The entrypoint that must load first.
+     * @param to The entrypoint that must load afterward.
+     *
+     * @since 1.9.0
+     */
+    private static void addEdge(IntArrayList[] successors, int[] predecessors, int from, int to) {
+        if (from == to) return;
+
+        if (successors[from] == null) successors[from] = new IntArrayList(2);
+
+        successors[from].add(to);
+        predecessors[to] += 1;
+    }
+
+    /**
+     * Marks every entrypoint that transitively depends on a deferred entrypoint as deferred.
+     *
+     * @param successors The entrypoints that depend on each entrypoint.
+     * @param deferred The deferred entrypoints.
+     *
+     * @since 1.9.0
+     */
+    private static void deferDependents(IntArrayList[] successors, BitSet deferred) {
+        final IntArrayList stack = new IntArrayList();
+
+        deferred.stream().forEach(stack::add);
+
+        while (!stack.isEmpty()) {
+            final IntArrayList next = successors[stack.popInt()];
+
+            if (next == null) continue;
+
+            for (int index = 0; index < next.size(); index += 1) {
+                final int successor = next.getInt(index);
+
+                if (deferred.get(successor)) continue;
+
+                deferred.set(successor);
+                stack.add(successor);
+            }
+        }
+    }
+
+    /**
+     * Schedules entrypoints one at a time, always choosing the earliest registered entrypoint that is ready.
+     *
+     * @param successors The entrypoints that depend on each entrypoint.
+     * @param predecessors The number of unloaded entrypoints that each entrypoint depends on.
+     * @param deferred The deferred entrypoints.
+     * @param ready The entrypoints that are ready to load.
+     * @param order The scheduled loading order.
+     *
+     * @since 1.9.0
+     */
+    private static void scheduleSequential(
+        IntArrayList[] successors, int[] predecessors, BitSet deferred, BitSet ready, IntArrayList order
+    ) {
+        for (int index = ready.nextSetBit(0); index >= 0; index = ready.nextSetBit(0)) {
+            ready.clear(index);
+            order.add(index);
+
+            release(successors[index], predecessors, deferred, ready);
+        }
+    }
+
+    /**
+     * Schedules entrypoints in waves, each containing every entrypoint that became ready during the previous wave.
+     *
+     * @param bucket The batch of entrypoints.
+     * @param successors The entrypoints that depend on each entrypoint.
+     * @param predecessors The number of unloaded entrypoints that each entrypoint depends on.
+     * @param deferred The deferred entrypoints.
+     * @param ready The entrypoints that are ready to load.
+     * @param order The scheduled loading order.
+     * @param waves The exclusive end index of each wave within the loading order.
+     * @param <T> The type of the scheduled entrypoints.
+     *
+     * @since 1.9.0
+     */
+    private static <T extends Loaded> void scheduleWaves(
+        EntrypointBucket<T> bucket,
+        IntArrayList[] successors,
+        int[] predecessors,
+        BitSet deferred,
+        BitSet ready,
+        IntArrayList order,
+        IntArrayList waves
+    ) {
+        final IntComparator byPriority = (a, b) -> Integer.compare(bucket.getPriority(b), bucket.getPriority(a));
+
+        while (!ready.isEmpty()) {
+            final int start = order.size();
+
+            ready.stream().forEach(order::add);
+            ready.clear();
+
+            // The sort is stable, so entrypoints with the same priority keep their registration order.
+            order.subList(start, order.size()).sort(byPriority);
+            waves.add(order.size());
+
+            for (int index = start; index < order.size(); index += 1) {
+                release(successors[order.getInt(index)], predecessors, deferred, ready);
+            }
+        }
+    }
+
+    /**
+     * Finds every unscheduled entrypoint that belongs to a dependency cycle, using Tarjan's strongly connected
+     * components algorithm.
+     * <p>
+     * The graph is walked iteratively, as a long chain of constraints could otherwise overflow the stack.
+     *
+     * @param successors The entrypoints that depend on each entrypoint.
+     * @param unscheduled The entrypoints that could not be scheduled.
+     *
+     * @return The entrypoints that belong to a cycle.
+     *
+     * @since 1.9.0
+     */
+    private static BitSet findCycles(IntArrayList[] successors, BitSet unscheduled) {
+        final int size = successors.length;
+        // Each entrypoint's discovery index, offset by one so that zero marks an entrypoint that has not been visited.
+        final int[] indices = new int[size];
+        final int[] lowLinks = new int[size];
+        final int[] cursors = new int[size];
+        final BitSet onStack = new BitSet(size);
+        final IntArrayList stack = new IntArrayList();
+        final IntArrayList path = new IntArrayList();
+        final BitSet cyclic = new BitSet(size);
+        int counter = 0;
+
+        for (int root = unscheduled.nextSetBit(0); root >= 0; root = unscheduled.nextSetBit(root + 1)) {
+            if (indices[root] != 0) continue;
+
+            path.add(root);
+
+            while (!path.isEmpty()) {
+                final int node = path.getInt(path.size() - 1);
+
+                if (indices[node] == 0) {
+                    counter += 1;
+
+                    indices[node] = counter;
+                    lowLinks[node] = counter;
+
+                    stack.add(node);
+                    onStack.set(node);
+                }
+
+                final IntArrayList next = successors[node];
+
+                if (next != null && cursors[node] < next.size()) {
+                    final int successor = next.getInt(cursors[node]);
+
+                    cursors[node] += 1;
+
+                    if (!unscheduled.get(successor)) continue;
+
+                    if (indices[successor] == 0) {
+                        path.add(successor);
+                    } else if (onStack.get(successor)) {
+                        lowLinks[node] = Math.min(lowLinks[node], indices[successor]);
+                    }
+
+                    continue;
+                }
+
+                path.popInt();
+
+                if (!path.isEmpty()) {
+                    final int parent = path.getInt(path.size() - 1);
+
+                    lowLinks[parent] = Math.min(lowLinks[parent], lowLinks[node]);
+                }
+
+                if (lowLinks[node] != indices[node]) continue;
+
+                // The entrypoint is the root of a component, which only forms a cycle if it contains another entrypoint.
+                final int start = stack.lastIndexOf(node);
+                final boolean cycle = stack.size() - start > 1;
+
+                for (int index = start; index < stack.size(); index += 1) {
+                    final int member = stack.getInt(index);
+
+                    onStack.clear(member);
+
+                    if (cycle) cyclic.set(member);
+                }
+
+                stack.size(start);
+            }
+        }
+
+        return cyclic;
+    }
+
+    /**
+     * Schedules the entrypoints that are only blocked by a dependency cycle, as though every cycle had already loaded.
+     *
+     * @param successors The entrypoints that depend on each entrypoint.
+     * @param predecessors The number of unloaded entrypoints that each entrypoint depends on.
+     * @param deferred The deferred entrypoints.
+     * @param cyclic The entrypoints that belong to a cycle.
+     * @param blocked The scheduled loading order of the blocked entrypoints.
+     *
+     * @since 1.9.0
+     */
+    private static void scheduleBlocked(
+        IntArrayList[] successors, int[] predecessors, BitSet deferred, BitSet cyclic, IntArrayList blocked
+    ) {
+        // Cyclic entrypoints are loaded separately, so they must never be marked as ready.
+        final BitSet excluded = (BitSet) deferred.clone();
+        final BitSet ready = new BitSet(successors.length);
+
+        excluded.or(cyclic);
+
+        cyclic.stream().forEach(index -> release(successors[index], predecessors, excluded, ready));
+
+        scheduleSequential(successors, predecessors, excluded, ready, blocked);
+    }
+
+    /**
+     * Releases the given successors of a scheduled entrypoint, marking any that have no remaining dependencies as
+     * ready.
+     *
+     * @param next The successors.
+     * @param predecessors The number of unloaded entrypoints that each entrypoint depends on.
+     * @param deferred The deferred entrypoints.
+     * @param ready The entrypoints that are ready to load.
+     *
+     * @since 1.9.0
+     */
+    private static void release(IntArrayList next, int[] predecessors, BitSet deferred, BitSet ready) {
+        if (next == null) return;
+
+        for (int index = 0; index < next.size(); index += 1) {
+            final int successor = next.getInt(index);
+
+            predecessors[successor] -= 1;
+
+            if (predecessors[successor] == 0 && !deferred.get(successor)) ready.set(successor);
+        }
+    }
+
+    /**
+     * The result of scheduling a batch of entrypoints.
+     *
+     * @param order The indices of the entrypoints to load, in loading order.
+     * @param waves The exclusive end index of each wave within the loading order, if scheduled in parallel.
+     * @param deferred The indices of the entrypoints that must wait for values outside of the batch.
+     * @param cyclic The indices of the entrypoints that could not be ordered as they form a dependency cycle.
+     * @param blocked The indices of the entrypoints that depend on a dependency cycle, in loading order.
+     * @param late The identifiers of other mods' values that could not be loaded after the batch, as they are not
+     * waiting to be loaded.
+     *
+     * @author Jaxydog
+     * @since 1.9.0
+     */
+    record Schedule(
+        int[] order, int[] waves, int[] deferred, int[] cyclic, int[] blocked, Set<Identifier> late
+    ) {}
+
+}
@@ -19,13 +19,18 @@
 
 package dev.jaxydog.lodestone.impl;
 
+import dev.jaxydog.lodestone.api.EnvironmentOption;
 import dev.jaxydog.lodestone.api.Loaded;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Consumer;
 
 /**
  * A possible loader environment.
+ * <p>
+ * Environments are immutable descriptors, which resolve all of their metadata once when they are created.
  *
  * @param <T> The environment's interface.
  *
@@ -46,6 +51,42 @@ public final class LoaderEnvironment<T extends Loaded> {
      * @since 1.0.0
      */
     private final Consumer<? super T> load;
+    /**
+     * A consumer method that prepares the value before it is loaded, if any.
+     *
+     * @since 1.9.0
+     */
+    private final @Nullable Consumer<? super T> prepare;
+    /**
+     * Whether each class of value overrides the bundled interface's default preparation method, if it has one.
+     *
+     * @since 1.9.0
+     */
+    private final @Nullable ClassValue<Boolean> preparing;
+    /**
+     * The simple name of the associated {@link Loaded} interface.
+     *
+     * @since 1.9.0
+     */
+    private final String name;
+    /**
+     * Whether the associated {@link Loaded} interface is bundled with Lodestone.
+     *
+     * @since 1.9.0
+     */
+    private final boolean bundled;
+    /**
+     * Whether the environment's values may be loaded in parallel.
+     *
+     * @since 1.9.0
+     */
+    private final boolean parallel;
+    /**
+     * Whether the environment's parallel loading is limited to one worker per available processor.
+     *
+     * @since 1.9.0
+     */
+    private final boolean bounded;
 
     /**
      * Creates a new {@link LoaderEnvironment}.
@@ -58,9 +99,54 @@ public final class LoaderEnvironment<T extends Loaded> {
      */
     public LoaderEnvironment(Class<? extends T> type, Consumer<? super T> load)
         throws NullPointerException
+    {
+        this(type, load, Set.of());
+    }
+
+    /**
+     * Creates a new {@link LoaderEnvironment}.
+     *
+     * @param type The associated {@link Loaded} interface.
+     * @param load A consumer method that loads the value.
+     * @param options The environment's options.
+     *
+     * @throws NullPointerException If the given type, loading method, or options are null.
+     * @since 1.9.0
+     */
+    public LoaderEnvironment(Class<? extends T> type, Consumer<? super T> load, Set<EnvironmentOption> options)
+        throws NullPointerException
+    {
+        this(type, null, load, options);
+    }
+
+    /**
+     * Creates a new {@link LoaderEnvironment} that prepares each value before loading it.
+     * <p>
+     * Values are prepared concurrently, and must not modify any shared state while doing so. Values are only loaded
+     * once every value being loaded alongside them has been prepared.
+     *
+     * @param type The associated {@link Loaded} interface.
+     * @param prepare A consumer method that prepares the value, if any.
+     * @param load A consumer method that loads the value.
+     * @param options The environment's options.
+     *
+     * @throws NullPointerException If the given type, loading method, or options are null.
+     * @since 1.9.0
+     */
+    public LoaderEnvironment(
+        Class<? extends T> type, @Nullable Consumer<? super T> prepare, Consumer<? super T> load,
+        Set<EnvironmentOption> options
+    )
+        throws NullPointerException
     {
         this.type = Objects.requireNonNull(type);
+        this.prepare = prepare;
         this.load = Objects.requireNonNull(load);
+        this.name = type.getSimpleName();
+        this.bundled = type.isAnnotationPresent(BundledLoader.class);
+        this.preparing = prepare == null ? null : createPreparing(type);
+        this.parallel = options.contains(EnvironmentOption.PARALLEL);
+        this.bounded = options.contains(EnvironmentOption.BOUNDED);
     }
 
     /**
@@ -74,6 +160,17 @@ public final class LoaderEnvironment<T extends Loaded> {
         return this.type;
     }
 
+    /**
+     * Returns the simple name of the associated {@link Loaded} interface.
+     *
+     * @return The simple name of the associated {@link Loaded} interface.
+     *
+     * @since 1.9.0
+     */
+    public String getName() {
+        return this.name;
+    }
+
     /**
      * Returns whether the associated {@link Loaded} interface is bundled with Lodestone.
      *
@@ -82,7 +179,99 @@ public final class LoaderEnvironment<T extends Loaded> {
      * @since 1.3.0
      */
     public boolean isBundled() {
-        return this.getInterface().isAnnotationPresent(BundledLoader.class);
+        return this.bundled;
+    }
+
+    /**
+     * Returns whether the environment's values may be loaded in parallel.
+     *
+     * @return Whether the environment's values may be loaded in parallel.
+     *
+     * @since 1.9.0
+     */
+    public boolean isParallel() {
+        return this.parallel;
+    }
+
+    /**
+     * Returns whether the environment's parallel loading is limited to one worker per available processor.
+     *
+     * @return Whether the environment's parallel loading is bounded.
+     *
+     * @since 1.9.0
+     */
+    public boolean isBounded() {
+        return this.bounded;
+    }
+
+    /**
+     * Returns whether the environment prepares its values before loading them.
+     *
+     * @return Whether the environment prepares its values before loading them.
+     *
+     * @since 1.9.0
+     */
+    public boolean hasPreparation() {
+        return this.prepare != null;
+    }
+
+    /**
+     * Returns whether the given value needs to be prepared before it is loaded.
+     * <p>
+     * Values of bundled interfaces only need to be prepared if they override the interface's default preparation
+     * method, while values of other interfaces always need to be prepared if the environment has a preparation method.
+     *
+     * @param value The value.
+     *
+     * @return Whether the given value needs to be prepared.
+     *
+     * @since 1.9.0
+     */
+    public boolean needsPreparation(T value) {
+        if (this.preparing == null) return this.prepare != null;
+
+        return this.preparing.get(value.getClass());
+    }
+
+    /**
+     * Prepares the given value, if the environment has a preparation method.
+     * <p>
+     * This may be called from any thread.
+     *
+     * @param value The value to prepare.
+     *
+     * @since 1.9.0
+     */
+    public void prepareValue(T value) {
+        if (this.prepare != null) this.prepare.accept(value);
+    }
+
+    /**
+     * Creates a cache of whether each class of value overrides the given interface's default preparation method.
+     *
+     * @param type The {@link Loaded} interface.
+     *
+     * @return The cache, or null if the interface does not declare a default preparation method.
+     *
+     * @since 1.9.0
+     */
+    private static @Nullable ClassValue<Boolean> createPreparing(Class<?> type) {
+        final BundledLoader bundled = type.getAnnotation(BundledLoader.class);
+
+        if (bundled == null || bundled.prepare().isEmpty()) return null;
+
+        final String method = bundled.prepare();
+
+        return new ClassValue<>() {
+            @Override
+            protected Boolean computeValue(Class<?> valueType) {
+                try {
+                    return valueType.getMethod(method).getDeclaringClass() != type;
+                } catch (NoSuchMethodException exception) {
+                    return true;
+                }
+            }
+        };
     }
 
     /**
@@ -20,19 +20,51 @@
 package dev.jaxydog.lodestone.impl;
 
 import com.google.common.collect.ImmutableSet;
+import dev.jaxydog.lodestone.api.LoadOrder;
+import dev.jaxydog.lodestone.api.LoadTiming.Phase;
 import dev.jaxydog.lodestone.api.Loaded;
-import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.objects.ObjectArraySet;
+import dev.jaxydog.lodestone.api.LoadingPriority;
+import dev.jaxydog.lodestone.impl.LoadScheduler.Schedule;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongMaps;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import net.minecraft.util.Identifier;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
 
 /**
  * Retains information about all registered loader environments.
+ * <p>
+ * The registry is safe to use from multiple threads. Environments and mods are stored within concurrent maps, and each
+ * mod's entrypoints are guarded by their own lock, so registrations for different mods never contend. Entrypoints
+ * registered for the same mod are loaded in the order that their registrations completed, unless reordered by their
+ * {@link LoadOrder loading order constraints}. Constraints between mods are only guaranteed to be respected if those
+ * mods are not loaded at the same time from different threads.
  *
  * @author Jaxydog
  * @since 1.0.0
@@ -45,6 +77,18 @@ public final class LoaderEnvironmentRegistry {
      * @since 1.1.0
      */
     private static final Logger LOGGER = LoggerFactory.getLogger("Lodestone/Registry");
+    /**
+     * Whether entrypoint loading is timed, either for profiling or for budgeting.
+     *
+     * @since 1.9.0
+     */
+    private static final boolean TIMED = LoadingProfiler.ENABLED || LoadBudget.ENABLED;
+    /**
+     * The executor shared by every concurrent preparation and load, which starts a virtual thread for each task.
+     *
+     * @since 1.9.0
+     */
+    private static final ExecutorService WORKERS = Executors.newVirtualThreadPerTaskExecutor();
     /**
      * Tracks whether Lodestone has finished initializing bundled environments and should forbid new bundled interfaces
      * from being loaded.
@@ -54,21 +98,35 @@ public final class LoaderEnvironmentRegistry {
     public static final AtomicBoolean FORBID_BUNDLED = new AtomicBoolean(false);
 
     /**
-     * The environment's entries mapped to their associated {@link Loaded} interfaces.
+     * The environment's entries, in registration order.
+     * <p>
+     * Environments are few and rarely registered, so the table is replaced on every registration and searched linearly
+     * by identity, which is cheaper than hashing a {@link Class} key on every lookup.
      *
-     * @since 1.0.0
+     * @since 1.9.0
      */
-    private final Map<Class<? extends Loaded>, Entry<? extends Loaded>> entries;
+    private volatile Entry<?>[] table = new Entry<?>[0];
+    /**
+     * The registered {@link Loaded} interfaces, in registration order.
+     * <p>
+     * This is rebuilt alongside the table, so that it may be shared by every caller without being copied.
+     *
+     * @since 1.9.0
+     */
+    private volatile ImmutableSet<Class<? extends Loaded>> interfaces = ImmutableSet.of();
+    /**
+     * Whether this registry has been frozen, after which no further environments may be registered.
+     *
+     * @since 1.9.0
+     */
+    private volatile boolean frozen;
 
     /**
      * Creates a new {@link LoaderEnvironmentRegistry}.
      *
-     * @param map The inner map.
-     *
      * @since 1.0.0
      */
-    private LoaderEnvironmentRegistry(Map<Class<? extends Loaded>, Entry<? extends Loaded>> map) {
-        this.entries = map;
+    private LoaderEnvironmentRegistry() {
     }
 
     /**
@@ -79,7 +137,7 @@ public final class LoaderEnvironmentRegistry {
      * @since 1.0.0
      */
     public static LoaderEnvironmentRegistry create() {
-        return new LoaderEnvironmentRegistry(new Object2ObjectOpenHashMap<>());
+        return new LoaderEnvironmentRegistry();
     }
 
     /**
@@ -91,33 +149,97 @@ public final class LoaderEnvironmentRegistry {
      * @throws IllegalArgumentException If the given environment's associated {@link Loaded} interface has already been
      * registered, or if the given environment's associated {@link Loaded} type is not an interface. This may also be
      * thrown when attempting to register a new "bundled" environment.
+     * @throws IllegalStateException If this registry has been frozen.
      * @throws NullPointerException If the given environment is null.
      * @since 1.0.0
      */
-    public <T extends Loaded> void register(LoaderEnvironment<T> environment)
-        throws IllegalArgumentException, NullPointerException
+    public synchronized <T extends Loaded> void register(LoaderEnvironment<T> environment)
+        throws IllegalArgumentException, IllegalStateException, NullPointerException
     {
         final Class<? extends T> type = Objects.requireNonNull(environment).getInterface();
+        final LoadingEvents.Creation event = new LoadingEvents.Creation();
+
+        event.begin();
 
-        if (!type.isInterface()) {
+        if (this.frozen) {
+            final String message = "Unable to register an environment for '%s' after the registry was frozen; "
+                + "environments must be created before Lodestone#freeze or Lodestone#compact is called";
+
+            throw new IllegalStateException(message.formatted(environment.getName()));
+        } else if (!type.isInterface()) {
             throw new IllegalArgumentException("The environment's associated type should be an interface");
-        } else if (this.entries.containsKey(type)) {
-            throw new IllegalArgumentException("An environment has already been registered for '%s'".formatted(type.getSimpleName()));
+        } else if (this.find(type) != null) {
+            throw new IllegalArgumentException("An environment has already been registered for '%s'".formatted(environment.getName()));
+        } else if (environment.isBundled() && FORBID_BUNDLED.get()) {
+            throw new IllegalArgumentException("The environment must not be using a bundled interface.");
         }
 
-        this.entries.put(type, new Entry<>(environment));
+        final Entry<?>[] table = Arrays.copyOf(this.table, this.table.length + 1);
 
-        if (environment.isBundled()) {
-            if (FORBID_BUNDLED.get()) {
-                throw new IllegalArgumentException("The environment must not be using a bundled interface.");
-            }
+        table[table.length - 1] = new Entry<>(environment);
+
+        this.interfaces = ImmutableSet.<Class<? extends Loaded>>builder().addAll(this.interfaces).add(type).build();
+        this.table = table;
 
-            LOGGER.debug("Added bundled loader environment: {}", type.getSimpleName());
+        if (environment.isBundled()) {
+            LOGGER.debug("Added bundled loader environment: {}", environment.getName());
         } else {
-            LOGGER.debug("Added modded loader environment: {}", type.getSimpleName());
+            LOGGER.debug("Added modded loader environment: {}", environment.getName());
+        }
+
+        if (event.shouldCommit()) {
+            event.environment = environment.getName();
+            event.bundled = environment.isBundled();
+            event.parallel = environment.isParallel();
+
+            event.commit();
         }
     }
 
+    /**
+     * Returns the entry associated with the given {@link Loaded} interface, if one has been registered.
+     *
+     * @param type The expected {@link Loaded} interface.
+     *
+     * @return The associated entry, or null if none has been registered.
+     *
+     * @since 1.9.0
+     */
+    private @Nullable Entry<?> find(Class<?> type) {
+        for (final Entry<?> entry : this.table) {
+            if (entry.environment().getInterface() == type) return entry;
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns the entry associated with the given {@link Loaded} interface.
+     *
+     * @param type The expected {@link Loaded} interface.
+     * @param <T> The type of the associated {@link Loaded} interface.
+     *
+     * @return The associated entry.
+     *
+     * @throws IllegalArgumentException If the given {@link Loaded} interface does not have a registered
+     * {@link LoaderEnvironment}.
+     * @since 1.9.0
+     */
+    @SuppressWarnings("unchecked")
+    private <T extends Loaded> Entry<T> get(
+        Class<? extends T> type
+    )
+        throws IllegalArgumentException
+    {
+        final Entry<?> entry = this.find(type);
+
+        if (entry == null) {
+            throw new IllegalArgumentException("An environment has not been registered for '%s'".formatted(type.getSimpleName()));
+        }
+
+        return (Entry<T>) entry;
+    }
+
     /**
      * Returns whether a {@link LoaderEnvironment} for the given {@link Loaded} interface was previously registered.
      *
@@ -129,18 +251,52 @@ public final class LoaderEnvironmentRegistry {
      * @since 1.0.0
      */
     public <T extends Loaded> boolean has(Class<? extends T> type) {
-        return this.entries.containsKey(type);
+        return this.find(type) != null;
+    }
+
+    /**
+     * Returns whether the {@link LoaderEnvironment} associated with the given {@link Loaded} interface loads its values
+     * in parallel.
+     *
+     * @param type The expected {@link Loaded} interface.
+     * @param <T> The type of the associated {@link Loaded} interface.
+     *
+     * @return Whether the associated {@link LoaderEnvironment} loads its values in parallel.
+     *
+     * @throws IllegalArgumentException If the given {@link Loaded} interface does not have a registered
+     * {@link LoaderEnvironment}.
+     * @since 1.9.0
+     */
+    public <T extends Loaded> boolean isParallel(
+        Class<? extends T> type
+    )
+        throws IllegalArgumentException
+    {
+        return this.get(type).environment().isParallel();
     }
 
     /**
      * Returns a set containing all registered interface instances.
+     * <p>
+     * The returned set is immutable and shared between callers, so it is never copied.
      *
      * @return A set containing all registered interface instances.
      *
      * @since 0.1.0
      */
     public Set<Class<? extends Loaded>> getInterfaces() {
-        return ImmutableSet.copyOf(this.entries.keySet());
+        return this.interfaces;
+    }
+
+    /**
+     * Returns a list containing all registered environments, in registration order.
+     *
+     * @return A list containing all registered environments.
+     *
+     * @since 1.9.0
+     */
+    public List<LoaderEnvironment<?>> getEnvironments() {
+        return Arrays.stream(this.table).<LoaderEnvironment<?>>map(Entry::environment).toList();
     }
 
     /**
@@ -156,24 +312,152 @@ public final class LoaderEnvironmentRegistry {
      * @throws NullPointerException If the given entrypoint is null.
      * @since 1.0.0
      */
-    @SuppressWarnings("unchecked")
     public <T extends Loaded> void addEntrypoint(
         Class<? extends T> type, T entrypoint
     )
         throws IllegalArgumentException, NullPointerException
+    {
+        this.addEntrypoint(type, entrypoint, LoadingPriority.DEFAULT);
+    }
+
+    /**
+     * Adds an entrypoint to the {@link LoaderEnvironmentRegistry} instance associated with the given {@link Loaded}
+     * interface.
+     *
+     * @param type The expected {@link Loaded} interface.
+     * @param entrypoint The entrypoint.
+     * @param priority The entrypoint's loading priority.
+     * @param <T> The type of the associated {@link Loaded} interface.
+     *
+     * @throws IllegalArgumentException If the given {@link Loaded} interface does not have a registered
+     * {@link LoaderEnvironment}.
+     * @throws NullPointerException If the given entrypoint is null.
+     * @since 1.9.0
+     */
+    public <T extends Loaded> void addEntrypoint(
+        Class<? extends T> type, T entrypoint, int priority
+    )
+        throws IllegalArgumentException, NullPointerException
+    {
+        this.addEntrypoint(type, entrypoint, priority, LoadOrder.NONE);
+    }
+
+    /**
+     * Adds an entrypoint to the {@link LoaderEnvironmentRegistry} instance associated with the given {@link Loaded}
+     * interface.
+     *
+     * @param type The expected {@link Loaded} interface.
+     * @param entrypoint The entrypoint.
+     * @param priority The entrypoint's loading priority.
+     * @param order The entrypoint's loading order constraints.
+     * @param <T> The type of the associated {@link Loaded} interface.
+     *
+     * @throws IllegalArgumentException If the given {@link Loaded} interface does not have a registered
+     * {@link LoaderEnvironment}.
+     * @throws NullPointerException If the given entrypoint or loading order is null.
+     * @since 1.9.0
+     */
+    public <T extends Loaded> void addEntrypoint(
+        Class<? extends T> type, T entrypoint, int priority, LoadOrder order
+    )
+        throws IllegalArgumentException, NullPointerException
     {
         Objects.requireNonNull(entrypoint);
+        Objects.requireNonNull(order);
 
-        if (this.has(type)) {
-            final String modId = entrypoint.getLoaderId().getNamespace();
-            final Set<T> set = (Set<T>) this.entries.get(type)
-                .entrypoints()
-                .computeIfAbsent(modId, i -> new ObjectArraySet<>());
+        final Entry<T> entry = this.get(type);
+        final Identifier loaderId = entrypoint.getLoaderId();
+        final String modId = loaderId.getNamespace();
+        final Map<String, EntrypointBucket<T>> entrypoints = entry.entrypoints();
+        final LoadingEvents.Registration event = new LoadingEvents.Registration();
 
-            set.add(entrypoint);
-        } else {
-            throw new IllegalArgumentException("An environment has not been registered for '%s'".formatted(type.getSimpleName()));
+        event.begin();
+
+        // A bucket only rejects entrypoints once its mod has started loading, by which point it has been removed.
+        while (!entrypoints.computeIfAbsent(modId, i -> new EntrypointBucket<>()).add(entrypoint, priority, order)) {
+            LOGGER.debug("Retrying '{}' entrypoint registration for '{}'", entry.environment().getName(), modId);
+        }
+
+        if (event.shouldCommit()) {
+            event.environment = entry.environment().getName();
+            event.modId = modId;
+            event.loaderId = loaderId.toString();
+            event.count = 1;
+
+            event.commit();
+        }
+    }
+
+    /**
+     * Adds every given entrypoint to the {@link LoaderEnvironmentRegistry} instance associated with the given
+     * {@link Loaded} interface, sharing a single loading priority and loading order.
+     * <p>
+     * The associated environment is looked up once, entrypoints are grouped by their mod in a single pass, and each
+     * mod's bucket is grown once to fit its group. Null entrypoints are skipped and counted rather than thrown.
+     *
+     * @param type The expected {@link Loaded} interface.
+     * @param entrypoints The entrypoints.
+     * @param priority The entrypoints' loading priority.
+     * @param order The entrypoints' loading order constraints.
+     * @param <T> The type of the associated {@link Loaded} interface.
+     *
+     * @return The number of entrypoints that were rejected for being null.
+     *
+     * @throws IllegalArgumentException If the given {@link Loaded} interface does not have a registered
+     * {@link LoaderEnvironment}.
+     * @throws NullPointerException If the given iterator or loading order is null.
+     * @since 1.9.0
+     */
+    public <T extends Loaded> int addEntrypoints(
+        Class<? extends T> type, Iterator<? extends T> entrypoints, int priority, LoadOrder order
+    )
+        throws IllegalArgumentException, NullPointerException
+    {
+        Objects.requireNonNull(entrypoints);
+        Objects.requireNonNull(order);
+
+        final Entry<T> entry = this.get(type);
+
+        // Most batches belong to a single mod; a linked map keeps multi-mod batches in first-seen order.
+        final Map<String, List<T>> groups = new Object2ObjectLinkedOpenHashMap<>(1);
+        int rejected = 0;
+
+        while (entrypoints.hasNext()) {
+            final T entrypoint = entrypoints.next();
+
+            if (entrypoint == null) {
+                rejected += 1;
+            } else {
+                groups.computeIfAbsent(entrypoint.getLoaderId().getNamespace(), i -> new ObjectArrayList<>())
+                    .add(entrypoint);
+            }
         }
+
+        final Map<String, EntrypointBucket<T>> buckets = entry.entrypoints();
+
+        for (final Map.Entry<String, List<T>> group : groups.entrySet()) {
+            final String modId = group.getKey();
+            final LoadingEvents.Registration event = new LoadingEvents.Registration();
+
+            event.begin();
+
+            // A bucket only rejects entrypoints once its mod has started loading, by which point it has been removed.
+            while (!buckets.computeIfAbsent(modId, i -> new EntrypointBucket<>())
+                .addAll(group.getValue(), priority, order))
+            {
+                LOGGER.debug("Retrying '{}' entrypoint registration for '{}'", entry.environment().getName(), modId);
+            }
+
+            if (event.shouldCommit()) {
+                event.environment = entry.environment().getName();
+                event.modId = modId;
+                event.count = group.getValue().size();
+
+                event.commit();
+            }
+        }
+
+        return rejected;
     }
 
     /**
@@ -194,13 +478,135 @@ public final class LoaderEnvironmentRegistry {
     )
         throws IllegalArgumentException
     {
-        if (this.has(type)) {
-            this.entries.get(type).loadEntrypoints(modId);
+        final Entry<T> entry = this.get(type);
 
-            LOGGER.debug("Loaded all '{}' entrypoints for '{}'", type.getSimpleName(), modId);
-        } else {
-            throw new IllegalArgumentException("An environment has not been registered for '%s'".formatted(type.getSimpleName()));
+        entry.loadEntrypoints(modId);
+
+        LOGGER.debug("Loaded all '{}' entrypoints for '{}'", entry.environment().getName(), modId);
+    }
+
+    /**
+     * Prepares the {@link LoaderEnvironment} instance associated with the given {@link Loaded} interface, returning a
+     * task that loads it.
+     * <p>
+     * This may be called from any thread. If the defined preparation method throws, the thrown error will be bubbled
+     * up, and the mod's entrypoints will remain registered.
+     *
+     * @param type The expected {@link Loaded} interface.
+     * @param modId The loaded mod's identifier.
+     * @param <T> The type of the associated {@link Loaded} interface.
+     *
+     * @return A task that loads the prepared entrypoints.
+     *
+     * @throws IllegalArgumentException If the given {@link Loaded} interface does not have a registered
+     * {@link LoaderEnvironment}.
+     * @since 1.9.0
+     */
+    public <T extends Loaded> Runnable prepareEntrypoints(
+        Class<? extends T> type, String modId
+    )
+        throws IllegalArgumentException
+    {
+        final Entry<T> entry = this.get(type);
+        final Runnable load = entry.prepareEntrypoints(modId);
+
+        return () -> {
+            load.run();
+
+            LOGGER.debug("Loaded all '{}' entrypoints for '{}'", entry.environment().getName(), modId);
+        };
+    }
+
+    /**
+     * Loads the given values again through the {@link LoaderEnvironment} instance associated with the given
+     * {@link Loaded} interface, without loading any registered entrypoints.
+     * <p>
+     * Values are prepared if needed, then loaded in the given order. They are not measured, so that reloading does not
+     * skew the measurements of their mods.
+     *
+     * @param type The expected {@link Loaded} interface.
+     * @param values The values to load again.
+     * @param <T> The type of the associated {@link Loaded} interface.
+     *
+     * @throws IllegalArgumentException If the given {@link Loaded} interface does not have a registered
+     * {@link LoaderEnvironment}.
+     * @since 1.9.0
+     */
+    public <T extends Loaded> void reloadValues(
+        Class<? extends T> type, Collection<? extends T> values
+    )
+        throws IllegalArgumentException
+    {
+        final Entry<T> entry = this.get(type);
+        final LoaderEnvironment<T> environment = entry.environment();
+
+        for (final T value : values) {
+            if (environment.needsPreparation(value)) environment.prepareValue(value);
         }
+
+        for (final T value : values) environment.loadValue(value);
+
+        LOGGER.debug("Reloaded {} '{}' entrypoints", values.size(), environment.getName());
+    }
+
+    /**
+     * Returns whether this registry has been frozen.
+     *
+     * @return Whether this registry has been frozen.
+     *
+     * @since 1.9.0
+     */
+    public boolean isFrozen() {
+        return this.frozen;
+    }
+
+    /**
+     * Freezes this registry, causing any further attempts to register an environment to fail.
+     * <p>
+     * Entrypoints may still be added to and loaded from the registered environments. Freezing an already frozen
+     * registry has no effect.
+     *
+     * @since 1.9.0
+     */
+    public synchronized void freeze() {
+        if (this.frozen) return;
+
+        this.frozen = true;
+
+        LOGGER.debug("Froze registry with {} environments: {}", this.interfaces.size(), this.getEnvironmentNames());
+    }
+
+    /**
+     * Returns the names of all registered environments, for use within diagnostics.
+     *
+     * @return The names of all registered environments.
+     *
+     * @since 1.9.0
+     */
+    private List<String> getEnvironmentNames() {
+        return this.getEnvironments().stream().map(LoaderEnvironment::getName).toList();
+    }
+
+    /**
+     * Compacts this registry, discarding any storage left over from previously loaded entrypoints.
+     * <p>
+     * This should only be called once all entrypoints have been loaded, as entrypoints registered while the registry is
+     * being compacted may be lost. Any entrypoints that were registered but never loaded are retained.
+     * <p>
+     * Compacting the registry also {@link #freeze() freezes} it.
+     *
+     * @since 1.9.0
+     */
+    public synchronized void compact() {
+        this.freeze();
+
+        final Entry<?>[] table = new Entry<?>[this.table.length];
+
+        for (int index = 0; index < table.length; index += 1) table[index] = this.table[index].compact();
+
+        this.table = table;
+
+        LOGGER.debug("Compacted registry with {} environments", table.length);
     }
 
     /**
@@ -208,12 +614,18 @@ public final class LoaderEnvironmentRegistry {
      *
      * @param environment The environment instance.
      * @param entrypoints The environment's registered entrypoints.
+     * @param deferred The entrypoints that are waiting for values registered by mods that have not yet been loaded, if
+     * any.
      * @param <T> The type of the associated {@link Loaded} interface.
      *
      * @author Jaxydog
      * @since 1.0.0
      */
-    private record Entry<T extends Loaded>(LoaderEnvironment<T> environment, Map<String, Set<T>> entrypoints) {
+    private record Entry<T extends Loaded>(
+        LoaderEnvironment<T> environment,
+        Map<String, EntrypointBucket<T>> entrypoints,
+        AtomicReference<EntrypointBucket<T>> deferred
+    ) {
 
         /**
          * Creates a new, empty {@link Entry}.
@@ -223,26 +635,675 @@ public final class LoaderEnvironmentRegistry {
          * @since 1.0.0
          */
         public Entry(LoaderEnvironment<T> environment) {
-            this(environment, new Object2ObjectOpenHashMap<>());
+            this(environment, new ConcurrentHashMap<>(), new AtomicReference<>());
         }
 
         /**
          * Loads all associated entrypoints for the given mod identifier.
          * <p>
-         * If the defined {@link LoaderEnvironment#loadValue(Loaded)} method throws, the error will be bubbled up.
+         * The mod's entrypoints are removed from this entry before loading, and each entrypoint is released as soon as
+         * it has loaded, so that loaded values are not retained by the registry.
+         * <p>
+         * If the defined {@link LoaderEnvironment#loadValue(Loaded)} method throws, the error will be bubbled up. Any
+         * entrypoints that were not yet loaded are first returned to this entry, so that a later load may retry them,
+         * while the entrypoint that threw is not retried.
          *
          * @param modId The loaded mod's identifier.
          *
          * @since 1.0.0
          */
         public void loadEntrypoints(String modId) {
-            if (!this.entrypoints().containsKey(modId)) return;
+            final EntrypointBucket<T> bucket = this.take(modId);
+
+            if (bucket == null) return;
+
+            final long start = TIMED ? System.nanoTime() : 0L;
+
+            this.prepare(bucket, modId);
+            this.load(bucket, modId, start);
+        }
+
+        /**
+         * Prepares all associated entrypoints for the given mod identifier, returning a task that loads them.
+         * <p>
+         * This may be called from any thread, while the returned task should be run wherever the environment's values
+         * are normally loaded. If any entrypoint fails to prepare, the mod's entrypoints are returned to this entry and
+         * the error is bubbled up.
+         *
+         * @param modId The loaded mod's identifier.
+         *
+         * @return A task that loads the prepared entrypoints.
+         *
+         * @since 1.9.0
+         */
+        public Runnable prepareEntrypoints(String modId) {
+            final EntrypointBucket<T> bucket = this.take(modId);
+
+            if (bucket == null) return () -> { };
+
+            final long start = TIMED ? System.nanoTime() : 0L;
+
+            this.prepare(bucket, modId);
+
+            final long elapsed = TIMED ? System.nanoTime() - start : 0L;
+
+            // Shifting the start by the preparation time excludes the time spent waiting for the task to be run.
+            return () -> this.load(bucket, modId, TIMED ? System.nanoTime() - elapsed : 0L);
+        }
+
+        /**
+         * Removes and closes the bucket of the given mod's entrypoints.
+         * <p>
+         * Removing the bucket first ensures that each entrypoint is only loaded once, even if loaded from several
+         * threads, and that the mod's storage does not outlive its loading.
+         *
+         * @param modId The loaded mod's identifier.
+         *
+         * @return The mod's entrypoints, or null if it has none.
+         *
+         * @since 1.9.0
+         */
+        private @Nullable EntrypointBucket<T> take(String modId) {
+            final EntrypointBucket<T> removed = this.entrypoints().remove(modId);
+
+            return removed == null ? null : removed.close();
+        }
+
+        /**
+         * Prepares the given entrypoints, if the environment has a preparation method.
+         * <p>
+         * If any entrypoint fails to prepare, all entrypoints are returned to this entry before the error is thrown.
+         *
+         * @param bucket The entrypoints.
+         * @param modId The loaded mod's identifier.
+         *
+         * @since 1.9.0
+         */
+        private void prepare(EntrypointBucket<T> bucket, String modId) {
+            if (!this.environment().hasPreparation()) return;
+
+            try {
+                // Deferred entrypoints were already prepared alongside their own mod, so only this bucket is prepared.
+                this.prepareAll(bucket, modId);
+            } catch (Throwable error) {
+                this.restore(bucket);
+
+                throw error;
+            }
+        }
+
+        /**
+         * Loads the given entrypoints, along with any deferred entrypoints that they unblock.
+         * <p>
+         * The time spent loading deferred entrypoints that belong to other mods is measured against those mods. Within
+         * parallel environments, deferred entrypoints may load concurrently with the mod's own, so their time is only
+         * separated when measuring sequential environments.
+         * <p>
+         * If any entrypoint fails to load, the entrypoints that were not yet loaded are returned to this entry before
+         * the error is bubbled up.
+         *
+         * @param bucket The entrypoints.
+         * @param modId The loaded mod's identifier.
+         * @param start The starting timestamp of the mod's measurement.
+         *
+         * @since 1.9.0
+         */
+        private void load(EntrypointBucket<T> bucket, String modId, long start) {
+            Object2LongMap<String> unblocked = Object2LongMaps.emptyMap();
+
+            try {
+                if (bucket.isOrdered() || this.deferred().get() != null) {
+                    // Scheduling is serialized so that deferred entrypoints are never claimed by two loads at once.
+                    synchronized (this.deferred()) {
+                        unblocked = this.loadScheduled(bucket, modId);
+                    }
+                } else if (this.environment().isParallel()) {
+                    this.loadParallel(bucket, IntStream.range(0, bucket.size()).toArray(), 0, bucket.size());
+                } else {
+                    for (int index = 0; index < bucket.size(); index += 1) this.loadReleased(bucket, index);
+                }
+            } catch (Throwable error) {
+                this.restore(bucket);
+
+                throw error;
+            }
+
+            if (!TIMED) return;
+
+            final String name = this.environment().getName();
+            long elapsed = 0L;
+
+            for (final Object2LongMap.Entry<String> entry : unblocked.object2LongEntrySet()) {
+                final long shifted = System.nanoTime() - entry.getLongValue();
+
+                LoadingProfiler.record(Phase.MOD, name, entry.getKey(), entry.getKey(), shifted);
+                LoadBudget.recordMod(name, entry.getKey(), shifted);
+
+                elapsed += entry.getLongValue();
+            }
+
+            // Deferred entrypoints are measured against their own mods, not the mod that happened to unblock them.
+            LoadingProfiler.record(Phase.MOD, name, modId, modId, start + elapsed);
+            LoadBudget.recordMod(name, modId, start + elapsed);
+        }
+
+        /**
+         * Returns a copy of this entry that only retains entrypoints that have not yet been loaded.
+         * <p>
+         * Concurrent maps never shrink their internal tables, so copying the map releases the storage used by buckets
+         * that have already been loaded and removed.
+         *
+         * @return A compacted entry.
+         *
+         * @since 1.9.0
+         */
+        public Entry<T> compact() {
+            final String name = this.environment().getName();
+
+            if (!this.entrypoints().isEmpty()) {
+                LOGGER.debug("Retaining unloaded '{}' entrypoints for {}", name, this.entrypoints().keySet());
+            }
+
+            final EntrypointBucket<T> deferred = this.deferred().get();
+
+            if (deferred != null) {
+                final int count = deferred.size();
+
+                LOGGER.warn("Retaining {} '{}' entrypoints that are waiting for unloaded values", count, name);
+            }
+
+            return new Entry<>(this.environment(), new ConcurrentHashMap<>(this.entrypoints()), this.deferred());
+        }
+
+        /**
+         * Loads the given entrypoints, along with any previously deferred entrypoints, according to their loading order
+         * constraints.
+         * <p>
+         * Entrypoints that must load after values registered by mods that have not yet been loaded are deferred until
+         * the next scheduled load. Entrypoints that form a dependency cycle are reported, then loaded in registration
+         * order once all other entrypoints have loaded, followed by the entrypoints that were blocked by the cycle.
+         *
+         * @param bucket The entrypoints.
+         * @param modId The loaded mod's identifier.
+         *
+         * @return The time spent loading other mods' deferred entrypoints, in nanoseconds, keyed by their mods.
+         *
+         * @since 1.9.0
+         */
+        private Object2LongMap<String> loadScheduled(EntrypointBucket<T> bucket, String modId) {
+            final EntrypointBucket<T> previous = this.deferred().getAndSet(null);
+            final EntrypointBucket<T> batch;
+
+            if (previous == null) {
+                batch = bucket;
+            } else {
+                batch = previous;
+
+                for (int index = 0; index < bucket.size(); index += 1) {
+                    batch.add(bucket.get(index), bucket.getPriority(index), bucket.getOrder(index));
+
+                    // The batch now owns the entrypoint, so only the batch restores it if loading fails.
+                    bucket.release(index);
+                }
+            }
+
+            try {
+                return this.loadBatch(batch, modId);
+            } catch (Throwable error) {
+                // A merged batch owns the entrypoints copied into it, so its remainder is restored here instead.
+                if (batch != bucket) this.restore(batch);
+
+                throw error;
+            }
+        }
+
+        /**
+         * Loads the given batch of entrypoints according to their loading order constraints.
+         *
+         * @param batch The entrypoints.
+         * @param modId The loaded mod's identifier.
+         *
+         * @return The time spent loading other mods' entrypoints, in nanoseconds, keyed by their mods.
+         *
+         * @since 1.9.0
+         */
+        private Object2LongMap<String> loadBatch(EntrypointBucket<T> batch, String modId) {
+            final Set<Identifier> pending = new ObjectOpenHashSet<>();
+
+            for (final EntrypointBucket<T> waiting : this.entrypoints().values()) waiting.collectLoaderIds(pending);
+
+            final boolean parallel = this.environment().isParallel();
+            final Schedule schedule = LoadScheduler.schedule(batch, pending, parallel);
+
+            final String name = this.environment().getName();
+
+            this.defer(batch, schedule.deferred());
+
+            if (!schedule.late().isEmpty()) {
+                final String message = "Could not load '{}' entrypoints of '{}' before {}, as they are not waiting";
+
+                LOGGER.warn(message, name, modId, schedule.late());
+            }
+
+            final Object2LongOpenHashMap<String> unblocked = new Object2LongOpenHashMap<>(0);
+
+            // Parallel waves may mix mods, so only sequential loads can separate the time spent on each mod.
+            if (parallel) {
+                int start = 0;
+
+                for (final int end : schedule.waves()) {
+                    this.loadParallel(batch, schedule.order(), start, end);
+
+                    start = end;
+                }
+            } else {
+                for (final int index : schedule.order()) this.loadMeasured(batch, index, modId, unblocked);
+            }
+
+            if (schedule.cyclic().length == 0) return unblocked;
+
+            final List<Identifier> cycle = IntStream.of(schedule.cyclic())
+                .mapToObj(index -> batch.get(index).getLoaderId())
+                .toList();
+
+            LOGGER.error("Found a loading order cycle between '{}' entrypoints: {}", name, cycle);
+
+            for (final int index : schedule.cyclic()) this.loadMeasured(batch, index, modId, unblocked);
+
+            if (schedule.blocked().length == 0) return unblocked;
+
+            final List<Identifier> blocked = IntStream.of(schedule.blocked())
+                .mapToObj(index -> batch.get(index).getLoaderId())
+                .toList();
+
+            LOGGER.warn("Loading '{}' entrypoints after the cycle that they depend on: {}", name, blocked);
+
+            for (final int index : schedule.blocked()) this.loadMeasured(batch, index, modId, unblocked);
+
+            return unblocked;
+        }
+
+        /**
+         * Loads the entrypoint at the given index, adding its loading time to the given times if it belongs to another
+         * mod.
+         *
+         * @param batch The entrypoints.
+         * @param index The entrypoint's index.
+         * @param modId The loaded mod's identifier.
+         * @param unblocked The time spent loading other mods' entrypoints, in nanoseconds, keyed by their mods.
+         *
+         * @since 1.9.0
+         */
+        private void loadMeasured(
+            EntrypointBucket<T> batch, int index, String modId, Object2LongOpenHashMap<String> unblocked
+        ) {
+            final String owner = batch.get(index).getLoaderId().getNamespace();
+
+            if (!TIMED || owner.equals(modId)) {
+                this.loadReleased(batch, index);
+
+                return;
+            }
+
+            final long start = System.nanoTime();
+
+            try {
+                this.loadReleased(batch, index);
+            } finally {
+                unblocked.addTo(owner, System.nanoTime() - start);
+            }
+        }
+
+        /**
+         * Loads the entrypoint at the given index, releasing it from the bucket even if it fails to load.
+         *
+         * @param bucket The entrypoints.
+         * @param index The entrypoint's index.
+         *
+         * @since 1.9.0
+         */
+        private void loadReleased(EntrypointBucket<T> bucket, int index) {
+            try {
+                this.loadValue(bucket.get(index));
+            } finally {
+                bucket.release(index);
+            }
+        }
+
+        /**
+         * Returns every entrypoint that has not been released from the given bucket to this entry, releasing each of
+         * them in turn.
+         * <p>
+         * Entrypoints are returned to the buckets of their own mods, retaining their loading priorities and loading
+         * order constraints.
+         *
+         * @param bucket The entrypoints.
+         *
+         * @since 1.9.0
+         */
+        private void restore(EntrypointBucket<T> bucket) {
+            int restored = 0;
 
-            for (final T entrypoint : this.entrypoints().get(modId)) {
+            for (int index = 0; index < bucket.size(); index += 1) {
+                final T entrypoint = bucket.get(index);
+
+                if (entrypoint == null) continue;
+
+                final String modId = entrypoint.getLoaderId().getNamespace();
+                final int priority = bucket.getPriority(index);
+                final LoadOrder order = bucket.getOrder(index);
+
+                while (!this.entrypoints().computeIfAbsent(modId, i -> new EntrypointBucket<>())
+                    .add(entrypoint, priority, order))
+                {
+                    LOGGER.debug("Retrying '{}' entrypoint restoration for '{}'", this.environment().getName(), modId);
+                }
+
+                bucket.release(index);
+
+                restored += 1;
+            }
+
+            if (restored > 0) {
+                final String name = this.environment().getName();
+
+                LOGGER.warn("Restored {} '{}' entrypoints that were not loaded due to an error", restored, name);
+            }
+        }
+
+        /**
+         * Defers the entrypoints at the given indices until the next scheduled load.
+         *
+         * @param batch The entrypoints.
+         * @param indices The indices of the entrypoints to defer.
+         *
+         * @since 1.9.0
+         */
+        private void defer(EntrypointBucket<T> batch, int[] indices) {
+            if (indices.length == 0) return;
+
+            final EntrypointBucket<T> deferred = new EntrypointBucket<>();
+
+            for (final int index : indices) {
+                deferred.add(batch.get(index), batch.getPriority(index), batch.getOrder(index));
+
+                batch.release(index);
+            }
+
+            this.deferred().set(deferred);
+
+            final String name = this.environment().getName();
+
+            LOGGER.debug("Deferred {} '{}' entrypoints that are waiting for unloaded values", indices.length, name);
+        }
+
+        /**
+         * Concurrently prepares every entrypoint within the given bucket that needs to be prepared.
+         * <p>
+         * Entrypoints are split into one contiguous chunk per available processor, so that environments with many
+         * quick preparations do not create a thread for every entrypoint. If any entrypoints fail to
+         * prepare, the first error is re-thrown once every chunk has finished, and no entrypoints are loaded.
+         *
+         * @param bucket The entrypoints.
+         * @param modId The loaded mod's identifier.
+         *
+         * @since 1.9.0
+         */
+        private void prepareAll(EntrypointBucket<T> bucket, String modId) {
+            final long start = LoadingProfiler.start();
+            final IntArrayList targets = new IntArrayList();
+
+            for (int index = 0; index < bucket.size(); index += 1) {
+                if (this.environment().needsPreparation(bucket.get(index))) targets.add(index);
+            }
+
+            // Most values never override their default preparation method, so there is usually nothing to prepare.
+            if (targets.isEmpty()) return;
+
+            final int size = targets.size();
+            final int chunks = Math.min(size, Runtime.getRuntime().availableProcessors());
+
+            // There is no need to hand off a single chunk to another thread.
+            if (chunks <= 1) {
+                for (int target = 0; target < size; target += 1) {
+                    this.environment().prepareValue(bucket.get(targets.getInt(target)));
+                }
+            } else {
+                final List<Callable<Void>> tasks = new ObjectArrayList<>(chunks);
+
+                for (int chunk = 0; chunk < chunks; chunk += 1) {
+                    final int from = size * chunk / chunks;
+                    final int to = size * (chunk + 1) / chunks;
+
+                    tasks.add(() -> {
+                        for (int target = from; target < to; target += 1) {
+                            this.environment().prepareValue(bucket.get(targets.getInt(target)));
+                        }
+
+                        return null;
+                    });
+                }
+
+                invokeAll(tasks, "prepare");
+            }
+
+            if (LoadingProfiler.ENABLED) {
+                final String name = this.environment().getName();
+
+                LoadingProfiler.record(Phase.PREPARATION, name, modId, modId, start);
+            }
+        }
+
+        /**
+         * Loads a single entrypoint, measuring it if profiling, budgeting, or flight recording is enabled.
+         *
+         * @param entrypoint The entrypoint.
+         *
+         * @since 1.9.0
+         */
+        private void loadValue(T entrypoint) {
+            final LoadingEvents.Load event = new LoadingEvents.Load();
+            final long start = TIMED ? System.nanoTime() : 0L;
+
+            event.begin();
+
+            try {
                 this.environment().loadValue(entrypoint);
+            } finally {
+                event.end();
+
+                // No measurement computes its metadata unless it will actually be recorded.
+                if (TIMED || event.shouldCommit()) {
+                    final String name = this.environment().getName();
+                    final Identifier loaderId = entrypoint.getLoaderId();
+                    final String modId = loaderId.getNamespace();
+
+                    LoadingProfiler.record(Phase.ENTRYPOINT, name, modId, loaderId.toString(), start);
+                    LoadBudget.recordEntrypoint(name, loaderId, start);
+
+                    if (event.shouldCommit()) {
+                        event.environment = name;
+                        event.modId = modId;
+                        event.loaderId = loaderId.toString();
+
+                        event.commit();
+                    }
+                }
             }
+        }
+
+        /**
+         * Loads the given range of entrypoints in parallel.
+         * <p>
+         * Consecutive entrypoints that share a loading priority form a band, which is loaded concurrently. Each band is
+         * only started once the previous band has finished loading.
+         *
+         * @param bucket The entrypoints.
+         * @param order The indices of the entrypoints, in loading order.
+         * @param from The position of the first entrypoint within the loading order, inclusive.
+         * @param to The position of the last entrypoint within the loading order, exclusive.
+         *
+         * @since 1.9.0
+         */
+        private void loadParallel(EntrypointBucket<T> bucket, int[] order, int from, int to) {
+            int start = from;
+
+            while (start < to) {
+                final int priority = bucket.getPriority(order[start]);
+                int end = start + 1;
+
+                while (end < to && bucket.getPriority(order[end]) == priority) end += 1;
+
+                this.loadBand(bucket, order, start, end);
+
+                start = end;
+            }
+        }
+
+        /**
+         * Concurrently loads the entrypoints within the given range.
+         * <p>
+         * If any entrypoints fail to load, the first error is re-thrown once the entire band has finished, with any
+         * other errors attached as suppressed exceptions.
+         *
+         * @param bucket The entrypoints.
+         * @param order The indices of the entrypoints, in loading order.
+         * @param start The position of the first entrypoint in the band, inclusive.
+         * @param end The position of the last entrypoint in the band, exclusive.
+         *
+         * @since 1.9.0
+         */
+        private void loadBand(EntrypointBucket<T> bucket, int[] order, int start, int end) {
+            // There is no need to hand off a single value to another thread.
+            if (end - start == 1) {
+                this.loadReleased(bucket, order[start]);
+
+                return;
+            }
+
+            // Bounded bands only need separate workers if they outnumber the available processors.
+            if (this.environment().isBounded() && end - start > Runtime.getRuntime().availableProcessors()) {
+                this.loadBounded(bucket, order, start, end, Runtime.getRuntime().availableProcessors());
+
+                return;
+            }
+
+            final List<Callable<Void>> tasks = new ObjectArrayList<>(end - start);
+
+            for (int position = start; position < end; position += 1) {
+                final int index = order[position];
+                final T entrypoint = bucket.get(index);
+
+                tasks.add(() -> {
+                    this.loadValue(entrypoint);
+
+                    return null;
+                });
+
+                // The task now holds the only reference, which is dropped once the band finishes.
+                bucket.release(index);
+            }
+
+            invokeAll(tasks, "load");
+        }
+
+        /**
+         * Concurrently loads the entrypoints within the given range using a fixed number of workers.
+         * <p>
+         * Each worker claims the next unloaded entrypoint until none remain, so that slow entrypoints do not hold up
+         * the rest of the band. If any entrypoints fail to load, the remaining entrypoints are still loaded, and the
+         * first error is re-thrown once the entire band has finished.
+         *
+         * @param bucket The entrypoints.
+         * @param order The indices of the entrypoints, in loading order.
+         * @param start The position of the first entrypoint in the band, inclusive.
+         * @param end The position of the last entrypoint in the band, exclusive.
+         * @param workers The number of workers.
+         *
+         * @since 1.9.0
+         */
+        private void loadBounded(EntrypointBucket<T> bucket, int[] order, int start, int end, int workers) {
+            final AtomicInteger cursor = new AtomicInteger(start);
+            final Queue<Throwable> errors = new ConcurrentLinkedQueue<>();
+            final List<Callable<Void>> tasks = new ObjectArrayList<>(workers);
+
+            for (int worker = 0; worker < workers; worker += 1) {
+                tasks.add(() -> {
+                    int position;
+
+                    while ((position = cursor.getAndIncrement()) < end) {
+                        final int index = order[position];
+
+                        try {
+                            this.loadValue(bucket.get(index));
+                        } catch (Throwable error) {
+                            errors.add(error);
+                        }
+
+                        // Each slot is only ever claimed by a single worker, so releasing it needs no synchronization.
+                        bucket.release(index);
+                    }
+
+                    return null;
+                });
+            }
+
+            invokeAll(tasks, "load");
+
+            if (!errors.isEmpty()) rethrow(new ObjectArrayList<>(errors), "load");
+        }
+
+        /**
+         * Runs the given tasks concurrently, waiting for all of them to finish.
+         * <p>
+         * If any tasks fail, the first error is re-thrown once every task has finished, with any other errors attached
+         * as suppressed exceptions.
+         *
+         * @param tasks The tasks.
+         * @param action The action performed by the tasks, used within error messages.
+         *
+         * @since 1.9.0
+         */
+        private static void invokeAll(List<Callable<Void>> tasks, String action) {
+            final List<Throwable> errors = new ObjectArrayList<>();
+
+            try {
+                for (final Future<Void> future : WORKERS.invokeAll(tasks)) {
+                    try {
+                        future.get();
+                    } catch (ExecutionException exception) {
+                        errors.add(exception.getCause());
+                    }
+                }
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+
+                final String message = "Interrupted while waiting to %s entrypoints".formatted(action);
+
+                throw new IllegalStateException(message, exception);
+            }
+
+            if (!errors.isEmpty()) rethrow(errors, action);
+        }
+
+        /**
+         * Re-throws the first of the given errors, retaining all others as suppressed exceptions.
+         *
+         * @param errors The errors.
+         * @param action The action that failed, used within error messages.
+         *
+         * @since 1.9.0
+         */
+        private static void rethrow(List<Throwable> errors, String action) {
+            final Throwable first = errors.getFirst();
+
+            for (int index = 1; index < errors.size(); index += 1) first.addSuppressed(errors.get(index));
+
+            if (first instanceof final RuntimeException exception) throw exception;
+            if (first instanceof final Error error) throw error;
 
-            this.entrypoints().get(modId).clear();
+            // Loading methods are consumers, so checked exceptions can only be thrown through unusual means.
+            throw new IllegalStateException("Failed to %s entrypoints".formatted(action), first);
         }
 
     }
@@ -0,0 +1,214 @@
+/*
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * Copyright © 2026 Jaxydog
+ *
+ * This file is part of Lodestone.
+ *
+ * Lodestone is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option)
+ * any later version.
+ *
+ * Lodestone is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for
+ * more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with Lodestone. If not, see
+ * <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.lodestone.impl;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The Java Flight Recorder events emitted during each of Lodestone's loading phases.
+ * <p>
+ * Each event is begun before its phase and only populated and committed if {@link Event#shouldCommit()} returns true,
+ * so that no event data is computed while no recording is active. Stack traces are disabled by default, as the events
+ * are already attributed to the relevant interface, mod, and loader.
+ *
+ * @author Jaxydog
+ * @since 1.9.0
+ */
+public final class LoadingEvents {
+
+    /**
+     * The category that all events are grouped within.
+     *
+     * @since 1.9.0
+     */
+    private static final String CATEGORY = "Lodestone";
+
+    /**
+     * Prevents this class from being instantiated.
+     *
+     * @since 1.9.0
+     */
+    private LoadingEvents() {
+    }
+
+    /**
+     * Emitted when a loader environment is created.
+     *
+     * @author Jaxydog
+     * @since 1.9.0
+     */
+    @Name("dev.jaxydog.lodestone.EnvironmentCreation")
+    @Label("Environment Creation")
+    @Category(CATEGORY)
+    @Description("The creation and registration of a Lodestone loader environment")
+    @StackTrace(false)
+    public static final class Creation
+        extends Event
+    {
+
+        /**
+         * The simple name of the environment's interface.
+         *
+         * @since 1.9.0
+         */
+        @Label("Interface")
+        public String environment;
+        /**
+         * Whether the environment's interface is bundled with Lodestone.
+         *
+         * @since 1.9.0
+         */
+        @Label("Bundled")
+        public boolean bundled;
+        /**
+         * Whether the environment loads its values in parallel.
+         *
+         * @since 1.9.0
+         */
+        @Label("Parallel")
+        public boolean parallel;
+
+    }
+
+    /**
+     * Emitted when the fields of an {@link dev.jaxydog.lodestone.api.AutoLoader} subclass are discovered.
+     *
+     * @author Jaxydog
+     * @since 1.9.0
+     */
+    @Name("dev.jaxydog.lodestone.Discovery")
+    @Label("AutoLoader Discovery")
+    @Category(CATEGORY)
+    @Description("The discovery of an AutoLoader subclass' fields")
+    @StackTrace(false)
+    public static final class Discovery
+        extends Event
+    {
+
+        /**
+         * The binary name of the loader's class.
+         *
+         * @since 1.9.0
+         */
+        @Label("Loader Class")
+        public String loaderClass;
+        /**
+         * The number of fields that were discovered.
+         *
+         * @since 1.9.0
+         */
+        @Label("Fields")
+        public int fields;
+
+    }
+
+    /**
+     * Emitted when values are registered for automatic loading.
+     * <p>
+     * Batched registrations emit one event for each mod that the batch contains.
+     *
+     * @author Jaxydog
+     * @since 1.9.0
+     */
+    @Name("dev.jaxydog.lodestone.Registration")
+    @Label("Value Registration")
+    @Category(CATEGORY)
+    @Description("The registration of one or more values for automatic loading")
+    @StackTrace(false)
+    public static final class Registration
+        extends Event
+    {
+
+        /**
+         * The simple name of the values' interface.
+         *
+         * @since 1.9.0
+         */
+        @Label("Interface")
+        public String environment;
+        /**
+         * The registering mod's identifier.
+         *
+         * @since 1.9.0
+         */
+        @Label("Mod ID")
+        public String modId;
+        /**
+         * The value's loader identifier, if a single value was registered.
+         *
+         * @since 1.9.0
+         */
+        @Label("Loader ID")
+        public String loaderId;
+        /**
+         * The number of values that were registered for the mod.
+         *
+         * @since 1.9.0
+         */
+        @Label("Values")
+        public int count;
+
+    }
+
+    /**
+     * Emitted when a single value is loaded by its environment.
+     *
+     * @author Jaxydog
+     * @since 1.9.0
+     */
+    @Name("dev.jaxydog.lodestone.Load")
+    @Label("Value Load")
+    @Category(CATEGORY)
+    @Description("The loading of a single value by its Lodestone environment")
+    @StackTrace(false)
+    public static final class Load
+        extends Event
+    {
+
+        /**
+         * The simple name of the value's interface.
+         *
+         * @since 1.9.0
+         */
+        @Label("Interface")
+        public String environment;
+        /**
+         * The identifier of the mod that registered the value.
+         *
+         * @since 1.9.0
+         */
+        @Label("Mod ID")
+        public String modId;
+        /**
+         * The value's loader identifier.
+         *
+         * @since 1.9.0
+         */
+        @Label("Loader ID")
+        public String loaderId;
+
+    }
+
+}
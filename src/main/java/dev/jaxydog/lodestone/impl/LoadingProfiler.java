@@ -0,0 +1,160 @@
+/*
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * Copyright © 2026 Jaxydog
+ *
+ * This file is part of Lodestone.
+ *
+ * Lodestone is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option)
+ * any later version.
+ *
+ * Lodestone is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for
+ * more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with Lodestone. If not, see
+ * <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.lodestone.impl;
+
+import dev.jaxydog.lodestone.api.LoadTiming;
+import dev.jaxydog.lodestone.api.LoadTiming.Phase;
+import dev.jaxydog.lodestone.api.LoadTimings;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Records timing measurements for each of Lodestone's loading phases.
+ * <p>
+ * Profiling is only enabled if the {@code lodestone.profile} system property is set to {@code true}. As the flag is a
+ * constant, callers should check {@link #ENABLED} before computing any measurement metadata, allowing the JIT to
+ * remove profiling entirely when it is disabled.
+ *
+ * @author Jaxydog
+ * @since 1.9.0
+ */
+public final class LoadingProfiler {
+
+    /**
+     * Whether profiling is enabled.
+     *
+     * @since 1.9.0
+     */
+    public static final boolean ENABLED = Boolean.getBoolean("lodestone.profile");
+
+    /**
+     * The path that a timing report is written to when the game exits, if any.
+     *
+     * @since 1.9.0
+     */
+    private static final @Nullable String OUTPUT = System.getProperty("lodestone.profile.output");
+    /**
+     * The profiler's logger.
+     *
+     * @since 1.9.0
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger("Lodestone/Profiler");
+
+    /**
+     * The recorded timings, in the order they were recorded.
+     *
+     * @since 1.9.0
+     */
+    private static final Queue<LoadTiming> TIMINGS = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Prevents this class from being instantiated.
+     *
+     * @since 1.9.0
+     */
+    private LoadingProfiler() {
+    }
+
+    /**
+     * Returns the starting timestamp of a new measurement.
+     *
+     * @return The starting timestamp, or zero if profiling is disabled.
+     *
+     * @since 1.9.0
+     */
+    public static long start() {
+        return ENABLED ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Records a measurement that began at the given timestamp.
+     *
+     * @param phase The measured loading phase.
+     * @param environment The simple name of the measured {@link dev.jaxydog.lodestone.api.Loaded} interface.
+     * @param modId The measured mod's identifier.
+     * @param target The measured target.
+     * @param start The measurement's starting timestamp.
+     *
+     * @since 1.9.0
+     */
+    public static void record(
+        Phase phase, @Nullable String environment, @Nullable String modId, String target, long start
+    ) {
+        if (!ENABLED) return;
+
+        TIMINGS.add(new LoadTiming(phase, environment, modId, target, System.nanoTime() - start));
+    }
+
+    /**
+     * Returns a snapshot of all recorded timings.
+     *
+     * @return A snapshot of all recorded timings.
+     *
+     * @since 1.9.0
+     */
+    public static LoadTimings snapshot() {
+        return new LoadTimings(List.copyOf(TIMINGS));
+    }
+
+    /**
+     * Writes a timing report when the game exits, if profiling is enabled and the {@code lodestone.profile.output}
+     * system property is set.
+     * <p>
+     * Reports are written as JSON if the output path ends with {@code .json}, and as comma-separated values otherwise.
+     *
+     * @since 1.9.0
+     */
+    public static void installReportHook() {
+        if (!ENABLED || OUTPUT == null) return;
+
+        final Path path = Path.of(OUTPUT);
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> writeReport(path), "Lodestone Profiler"));
+    }
+
+    /**
+     * Writes a timing report to the given path.
+     *
+     * @param path The output path.
+     *
+     * @since 1.9.0
+     */
+    private static void writeReport(Path path) {
+        try (final Writer writer = Files.newBufferedWriter(path)) {
+            if (path.getFileName().toString().endsWith(".json")) {
+                snapshot().writeJson(writer);
+            } else {
+                snapshot().writeCsv(writer);
+            }
+        } catch (IOException exception) {
+            LOGGER.error("Unable to write timing report '{}': {}", path, exception.getLocalizedMessage());
+        }
+    }
+
+}
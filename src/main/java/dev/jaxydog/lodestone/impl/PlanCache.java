@@ -0,0 +1,535 @@
+/*
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * Copyright © 2026 Jaxydog
+ *
+ * This file is part of Lodestone.
+ *
+ * Lodestone is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option)
+ * any later version.
+ *
+ * Lodestone is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for
+ * more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with Lodestone. If not, see
+ * <https://www.gnu.org/licenses/>.
+ */
+package dev.jaxydog.lodestone.impl;
+
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMaps;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import net.fabricmc.loader.api.FabricLoader;
+import net.fabricmc.loader.api.ModContainer;
+import net.fabricmc.loader.api.metadata.ModOrigin;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A persistent cache of compiled {@link dev.jaxydog.lodestone.api.AutoLoader} plans, stored within the game directory.
+ * <p>
+ * Caching is only enabled if the {@code lodestone.cache} system property is set to {@code true}, and never within a
+ * development environment. The cache is keyed by a hash of every loaded mod's identifier, version, and file metadata,
+ * so that any change to the installed mods invalidates it entirely.
+ * <p>
+ * The cache file is read into memory once when opened, and each plan is only decoded once it is first requested.
+ * Plans that are compiled while the game is running are written back to the file when the game exits.
+ *
+ * @author Jaxydog
+ * @since 1.9.0
+ */
+public final class PlanCache {
+
+    /**
+     * Whether caching is enabled.
+     *
+     * @since 1.9.0
+     */
+    public static final boolean ENABLED = Boolean.getBoolean("lodestone.cache");
+
+    /**
+     * The cache's logger.
+     *
+     * @since 1.9.0
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger("Lodestone/PlanCache");
+    /**
+     * The bytes that every cache file begins with.
+     *
+     * @since 1.9.0
+     */
+    private static final int MAGIC = 0x4C445350;
+    /**
+     * The cache file format version, which should be incremented whenever the format changes.
+     *
+     * @since 1.9.0
+     */
+    private static final int FORMAT = 3;
+    /**
+     * The algorithm used to compute the cache key.
+     *
+     * @since 1.9.0
+     */
+    private static final String KEY_ALGORITHM = "SHA-256";
+
+    /**
+     * The plans decoded from the cache file or compiled during this launch, keyed by their class' name.
+     *
+     * @since 1.9.0
+     */
+    private static final Map<String, List<CachedField>> PLANS = new ConcurrentHashMap<>();
+    /**
+     * Whether any plans have been added since the cache file was opened.
+     *
+     * @since 1.9.0
+     */
+    private static final AtomicBoolean DIRTY = new AtomicBoolean(false);
+
+    /**
+     * The offset of each plan within the cache file's contents, keyed by their class' name.
+     *
+     * @since 1.9.0
+     */
+    private static volatile Object2IntMap<String> offsets = Object2IntMaps.emptyMap();
+    /**
+     * The cache file's contents, if it was opened successfully.
+     * <p>
+     * The file is copied onto the heap rather than memory-mapped, as a mapping would hold the file open until the
+     * buffer is garbage collected, which prevents it from being replaced on some platforms, such as Windows.
+     *
+     * @since 1.9.0
+     */
+    private static volatile @Nullable ByteBuffer buffer;
+
+    /**
+     * Prevents this class from being instantiated.
+     *
+     * @since 1.9.0
+     */
+    private PlanCache() {
+    }
+
+    /**
+     * Opens the cache file and writes it back when the game exits, if caching is enabled.
+     *
+     * @since 1.9.0
+     */
+    public static void install() {
+        if (!ENABLED) return;
+
+        final FabricLoader loader = FabricLoader.getInstance();
+
+        // Class directories are not reliably invalidated by their modification times.
+        if (loader.isDevelopmentEnvironment()) {
+            LOGGER.warn("Plan caching is disabled within development environments");
+
+            return;
+        }
+
+        final Path path = loader.getGameDir().resolve(".lodestone").resolve("plans.bin");
+        final byte[] key;
+
+        try {
+            key = computeKey(loader);
+        } catch (IOException | NoSuchAlgorithmException exception) {
+            LOGGER.error("Unable to compute plan cache key: {}", exception.getLocalizedMessage());
+
+            return;
+        }
+
+        open(path, key);
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> save(path, key), "Lodestone Plan Cache"));
+    }
+
+    /**
+     * Returns the cached plan of the given class, if it exists.
+     *
+     * @param className The binary name of the class.
+     *
+     * @return The class' cached fields, in loading order.
+     *
+     * @since 1.9.0
+     */
+    public static Optional<List<CachedField>> get(String className) {
+        final List<CachedField> plan = PLANS.get(className);
+
+        if (plan != null) return Optional.of(plan);
+
+        final int offset = offsets.getOrDefault(className, -1);
+        final ByteBuffer contents = buffer;
+
+        if (offset < 0 || contents == null) return Optional.empty();
+
+        try {
+            final List<CachedField> decoded = decode(contents, offset);
+
+            PLANS.putIfAbsent(className, decoded);
+
+            return Optional.of(decoded);
+        } catch (RuntimeException exception) {
+            LOGGER.warn("Unable to read cached plan of '{}': {}", className, exception.getLocalizedMessage());
+
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Adds the given plan to the cache, to be written when the game exits.
+     *
+     * @param className The binary name of the class.
+     * @param fields The class' fields, in loading order.
+     *
+     * @since 1.9.0
+     */
+    public static void put(String className, List<CachedField> fields) {
+        PLANS.put(className, List.copyOf(fields));
+
+        DIRTY.set(true);
+    }
+
+    /**
+     * Computes a key that uniquely identifies the current set of loaded mods.
+     *
+     * @param loader The Fabric loader instance.
+     *
+     * @return The computed key.
+     *
+     * @throws IOException If a mod's file metadata could not be read.
+     * @throws NoSuchAlgorithmException If the key algorithm is not supported.
+     * @since 1.9.0
+     */
+    private static byte[] computeKey(FabricLoader loader)
+        throws IOException, NoSuchAlgorithmException
+    {
+        final MessageDigest digest = MessageDigest.getInstance(KEY_ALGORITHM);
+        final List<ModContainer> mods = loader.getAllMods()
+            .stream()
+            .sorted(Comparator.comparing(mod -> mod.getMetadata().getId()))
+            .toList();
+
+        digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(FORMAT).flip());
+
+        for (final ModContainer mod : mods) {
+            final StringBuilder builder = new StringBuilder();
+
+            builder.append(mod.getMetadata().getId()).append('@');
+            builder.append(mod.getMetadata().getVersion().getFriendlyString()).append(';');
+
+            final ModOrigin origin = mod.getOrigin();
+
+            // Hashing every file's contents would cost more than the discovery that this cache avoids.
+            if (origin.getKind() == ModOrigin.Kind.PATH) {
+                for (final Path path : origin.getPaths()) {
+                    builder.append(path.toAbsolutePath()).append(':');
+                    builder.append(Files.size(path)).append(':');
+                    builder.append(Files.getLastModifiedTime(path).toMillis()).append(';');
+                }
+            } else if (origin.getKind() == ModOrigin.Kind.NESTED) {
+                builder.append(origin.getParentModId()).append('/').append(origin.getParentSubLocation()).append(';');
+            }
+
+            digest.update(builder.toString().getBytes(StandardCharsets.UTF_8));
+        }
+
+        return digest.digest();
+    }
+
+    /**
+     * Reads the cache file at the given path, if it exists and matches the given key.
+     * <p>
+     * Once read, the file's plans replace any that are already held in memory.
+     *
+     * @param path The cache file's path.
+     * @param key The expected cache key.
+     *
+     * @since 1.9.0
+     */
+    static void open(Path path, byte[] key) {
+        if (!Files.isRegularFile(path)) return;
+
+        try {
+            final ByteBuffer contents = ByteBuffer.wrap(Files.readAllBytes(path));
+            final byte[] storedKey = new byte[key.length];
+
+            if (contents.getInt() != MAGIC || contents.getInt() != FORMAT) {
+                LOGGER.info("Discarding plan cache written by an incompatible version");
+
+                return;
+            }
+
+            contents.get(storedKey);
+
+            if (!Arrays.equals(key, storedKey)) {
+                LOGGER.info("Discarding plan cache, as the installed mods have changed");
+
+                return;
+            }
+
+            final int count = contents.getInt();
+            final Object2IntMap<String> table = new Object2IntOpenHashMap<>(count);
+
+            for (int index = 0; index < count; index += 1) {
+                final String className = getString(contents);
+
+                table.put(className, contents.getInt());
+            }
+
+            // Stored offsets are relative to the end of the plan table.
+            final int bodyStart = contents.position();
+
+            for (final Object2IntMap.Entry<String> entry : table.object2IntEntrySet()) {
+                entry.setValue(bodyStart + entry.getIntValue());
+            }
+
+            offsets = table;
+            buffer = contents;
+
+            PLANS.clear();
+            DIRTY.set(false);
+
+            LOGGER.info("Opened plan cache with {} plans", count);
+        } catch (IOException | RuntimeException exception) {
+            LOGGER.warn("Unable to open plan cache '{}': {}", path, exception.getLocalizedMessage());
+        }
+    }
+
+    /**
+     * Writes all known plans to the cache file at the given path, if any plans have been added.
+     *
+     * @param path The cache file's path.
+     * @param key The cache key.
+     *
+     * @since 1.9.0
+     */
+    static void save(Path path, byte[] key) {
+        if (!DIRTY.get()) return;
+
+        // Retain plans from previous launches that were never requested during this one.
+        for (final String className : offsets.keySet()) get(className);
+
+        final List<String> names = PLANS.keySet().stream().sorted().toList();
+        final ByteArrayOutputStream bodies = new ByteArrayOutputStream();
+        final int[] bodyOffsets = new int[names.size()];
+
+        try {
+            final DataOutputStream body = new DataOutputStream(bodies);
+
+            for (int index = 0; index < names.size(); index += 1) {
+                bodyOffsets[index] = body.size();
+
+                encode(body, PLANS.get(names.get(index)));
+            }
+
+            final ByteArrayOutputStream headers = new ByteArrayOutputStream();
+            final DataOutputStream header = new DataOutputStream(headers);
+
+            header.writeInt(MAGIC);
+            header.writeInt(FORMAT);
+            header.write(key);
+            header.writeInt(names.size());
+
+            for (int index = 0; index < names.size(); index += 1) {
+                putString(header, names.get(index));
+                header.writeInt(bodyOffsets[index]);
+            }
+
+            final Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+
+            Files.createDirectories(path.getParent());
+
+            try (final OutputStream output = Files.newOutputStream(temporary)) {
+                headers.writeTo(output);
+                bodies.writeTo(output);
+            }
+
+            try {
+                Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException exception) {
+                Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException exception) {
+            LOGGER.error("Unable to write plan cache '{}': {}", path, exception.getLocalizedMessage());
+        }
+    }
+
+    /**
+     * Decodes the plan at the given offset within the cache file's contents.
+     *
+     * @param contents The cache file's contents.
+     * @param offset The plan's offset.
+     *
+     * @return The plan's fields.
+     *
+     * @since 1.9.0
+     */
+    private static List<CachedField> decode(ByteBuffer contents, int offset) {
+        // Duplicates share their contents but not their position, allowing plans to be decoded concurrently.
+        final ByteBuffer view = contents.duplicate().position(offset);
+        final int count = view.getInt();
+        final List<CachedField> fields = new ObjectArrayList<>(count);
+
+        for (int index = 0; index < count; index += 1) {
+            final String owner = getString(view);
+            final String name = getString(view);
+            final String type = getString(view);
+            final List<String> ignored = getStrings(view);
+            final List<String> required = getStrings(view);
+            final List<String> after = getStrings(view);
+            final List<String> before = getStrings(view);
+
+            fields.add(new CachedField(owner, name, type, ignored, required, after, before, view.getInt()));
+        }
+
+        return List.copyOf(fields);
+    }
+
+    /**
+     * Encodes the given plan.
+     *
+     * @param output The output stream.
+     * @param fields The plan's fields.
+     *
+     * @throws IOException If the plan could not be written.
+     * @since 1.9.0
+     */
+    private static void encode(DataOutputStream output, List<CachedField> fields)
+        throws IOException
+    {
+        output.writeInt(fields.size());
+
+        for (final CachedField field : fields) {
+            putString(output, field.owner());
+            putString(output, field.name());
+            putString(output, field.type());
+            putStrings(output, field.ignored());
+            putStrings(output, field.required());
+            putStrings(output, field.after());
+            putStrings(output, field.before());
+            output.writeInt(field.priority());
+        }
+    }
+
+    /**
+     * Reads a length-prefixed UTF-8 string.
+     *
+     * @param input The input buffer.
+     *
+     * @return The string.
+     *
+     * @since 1.9.0
+     */
+    private static String getString(ByteBuffer input) {
+        final byte[] bytes = new byte[input.getInt()];
+
+        input.get(bytes);
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a length-prefixed list of strings.
+     *
+     * @param input The input buffer.
+     *
+     * @return The strings.
+     *
+     * @since 1.9.0
+     */
+    private static List<String> getStrings(ByteBuffer input) {
+        final int count = input.getInt();
+        final String[] strings = new String[count];
+
+        for (int index = 0; index < count; index += 1) strings[index] = getString(input);
+
+        return List.of(strings);
+    }
+
+    /**
+     * Writes a length-prefixed UTF-8 string.
+     *
+     * @param output The output stream.
+     * @param string The string.
+     *
+     * @throws IOException If the string could not be written.
+     * @since 1.9.0
+     */
+    private static void putString(DataOutputStream output, String string)
+        throws IOException
+    {
+        final byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    /**
+     * Writes a length-prefixed list of strings.
+     *
+     * @param output The output stream.
+     * @param strings The strings.
+     *
+     * @throws IOException If the strings could not be written.
+     * @since 1.9.0
+     */
+    private static void putStrings(DataOutputStream output, List<String> strings)
+        throws IOException
+    {
+        output.writeInt(strings.size());
+
+        for (final String string : strings) putString(output, string);
+    }
+
+    /**
+     * A single cached field.
+     *
+     * @param owner The binary name of the field's declaring class.
+     * @param name The field's name.
+     * @param type The binary name of the field's declared type.
+     * @param ignored The binary names of the {@link dev.jaxydog.lodestone.api.Loaded} interfaces that this field should
+     * be skipped within.
+     * @param required The binary names of the {@link dev.jaxydog.lodestone.api.Loaded} interfaces that this field is
+     * restricted to.
+     * @param after The loader identifiers of the values that this field must be loaded after.
+     * @param before The loader identifiers of the values that this field must be loaded before.
+     * @param priority The field's loading priority.
+     *
+     * @author Jaxydog
+     * @since 1.9.0
+     */
+    public record CachedField(
+        String owner,
+        String name,
+        String type,
+        List<String> ignored,
+        List<String> required,
+        List<String> after,
+        List<String> before,
+        int priority
+    ) {}
+
+}
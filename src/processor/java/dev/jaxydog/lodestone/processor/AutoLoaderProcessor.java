@@ -0,0 +1,598 @@
+/*
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * Copyright © 2026 Jaxydog
+ *
+ * This file is part of Lodestone.
+ *
+ * Lodestone is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option)
+ * any later version.
+ *
+ * Lodestone is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for
+ * more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with Lodestone. If not, see
+ * <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.lodestone.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic.Kind;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * An annotation processor that generates an {@code AutoLoaderIndex} for every concrete {@code AutoLoader} subclass.
+ * <p>
+ * Each generated index contains the loader's loadable fields, already filtered and sorted by their loading priority,
+ * allowing Lodestone to skip reflective field discovery entirely at runtime. Loaders whose fields cannot be accessed
+ * from generated code within the same package are skipped, and fall back to reflection.
+ *
+ * @author Jaxydog
+ * @since 1.9.0
+ */
+@SupportedAnnotationTypes("*")
+public final class AutoLoaderProcessor
+    extends AbstractProcessor
+{
+
+    /**
+     * The name of the {@code AutoLoader} class.
+     *
+     * @since 1.9.0
+     */
+    private static final String AUTO_LOADER = "dev.jaxydog.lodestone.api.AutoLoader";
+    /**
+     * The name of the {@code AutoLoaderIndex} interface.
+     *
+     * @since 1.9.0
+     */
+    private static final String INDEX = "dev.jaxydog.lodestone.api.AutoLoaderIndex";
+    /**
+     * The name of the {@code IgnoreLoading} annotation.
+     *
+     * @since 1.9.0
+     */
+    private static final String IGNORE_LOADING = "dev.jaxydog.lodestone.api.IgnoreLoading";
+    /**
+     * The name of the {@code LoadingPriority} annotation.
+     *
+     * @since 1.9.0
+     */
+    private static final String LOADING_PRIORITY = "dev.jaxydog.lodestone.api.LoadingPriority";
+    /**
+     * The name of the {@code RestrictLoading} annotation.
+     *
+     * @since 1.9.0
+     */
+    private static final String RESTRICT_LOADING = "dev.jaxydog.lodestone.api.RestrictLoading";
+    /**
+     * The name of the {@code LoadAfter} annotation.
+     *
+     * @since 1.9.0
+     */
+    private static final String LOAD_AFTER = "dev.jaxydog.lodestone.api.LoadAfter";
+    /**
+     * The name of the {@code LoadBefore} annotation.
+     *
+     * @since 1.9.0
+     */
+    private static final String LOAD_BEFORE = "dev.jaxydog.lodestone.api.LoadBefore";
+    /**
+     * The name of the {@code LoadOrder} record.
+     *
+     * @since 1.9.0
+     */
+    private static final String LOAD_ORDER = "dev.jaxydog.lodestone.api.LoadOrder";
+    /**
+     * The pattern that all loading order identifiers must match.
+     *
+     * @since 1.9.0
+     */
+    private static final Pattern IDENTIFIER = Pattern.compile("(?:[a-z0-9_.-]+:)?[a-z0-9_./-]+");
+    /**
+     * The suffix appended to a loader's binary name to form the name of its generated index.
+     *
+     * @since 1.9.0
+     */
+    private static final String SUFFIX = "$LodestoneIndex";
+
+    /**
+     * Creates a new instance of this processor.
+     *
+     * @since 1.9.0
+     */
+    public AutoLoaderProcessor() {
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+        final TypeElement loader = this.processingEnv.getElementUtils().getTypeElement(AUTO_LOADER);
+
+        // Lodestone is not present on the compile classpath, so there is nothing to index.
+        if (loader == null) return false;
+
+        for (final Element element : round.getRootElements()) this.visit(element, loader);
+
+        // Other processors may still be interested in these annotations.
+        return false;
+    }
+
+    /**
+     * Visits the given element and all of its nested types, generating indices for any loaders.
+     *
+     * @param element The element.
+     * @param loader The {@code AutoLoader} class element.
+     *
+     * @since 1.9.0
+     */
+    private void visit(Element element, TypeElement loader) {
+        if (!(element instanceof final TypeElement type)) return;
+
+        for (final Element enclosed : type.getEnclosedElements()) this.visit(enclosed, loader);
+
+        if (type.getKind() != ElementKind.CLASS || type.getModifiers().contains(Modifier.ABSTRACT)) return;
+
+        final TypeMirror erased = this.processingEnv.getTypeUtils().erasure(type.asType());
+
+        if (!this.processingEnv.getTypeUtils().isSubtype(erased, loader.asType())) return;
+
+        try {
+            this.generate(type, loader);
+        } catch (IOException exception) {
+            final String message = "Unable to write Lodestone index: %s".formatted(exception.getLocalizedMessage());
+
+            this.processingEnv.getMessager().printMessage(Kind.ERROR, message, type);
+        }
+    }
+
+    /**
+     * Generates an index for the given loader.
+     *
+     * @param type The loader's type element.
+     * @param loader The {@code AutoLoader} class element.
+     *
+     * @throws IOException If the index could not be written.
+     * @since 1.9.0
+     */
+    private void generate(TypeElement type, TypeElement loader)
+        throws IOException
+    {
+        final PackageElement pkg = this.processingEnv.getElementUtils().getPackageOf(type);
+        final Optional<List<IndexedField>> fields = this.collectFields(type, loader, pkg);
+
+        if (fields.isEmpty()) {
+            final String message = "Skipping Lodestone index, as not all fields are accessible from its package";
+
+            this.processingEnv.getMessager().printMessage(Kind.NOTE, message, type);
+
+            return;
+        }
+
+        final String packageName = pkg.getQualifiedName().toString();
+        final String binaryName = this.processingEnv.getElementUtils().getBinaryName(type).toString();
+        final String simpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1))
+            + SUFFIX;
+        final String qualifiedName = packageName.isEmpty() ? simpleName : packageName + '.' + simpleName;
+
+        try (final PrintWriter writer = new PrintWriter(this.processingEnv.getFiler()
+            .createSourceFile(qualifiedName, type)
+            .openWriter()))
+        {
+            if (!packageName.isEmpty()) {
+                writer.printf("package %s;%n%n", packageName);
+            }
+
+            writer.printf("/**%n * The generated Lodestone index of {@link %s}.%n */%n", type.getQualifiedName());
+            writer.printf("@javax.annotation.processing.Generated(\"%s\")%n", this.getClass().getName());
+            writer.printf("public final class %s implements %s {%n%n", simpleName, INDEX);
+            writer.printf("    public %s() {%n    }%n%n", simpleName);
+            writer.printf("    @Override%n");
+            writer.printf("    public java.util.List<%s.Entry> entries() {%n", INDEX);
+            writer.printf("        return java.util.List.of(");
+
+            for (int index = 0; index < fields.get().size(); index += 1) {
+                final IndexedField field = fields.get().get(index);
+
+                writer.printf(index == 0 ? "%n" : ",%n");
+                writer.printf(
+                    "            new %s.Entry(\"%s\", %s.class, java.util.Set.of(%s), java.util.Set.of(%s), %s, %d, "
+                        + "() -> %s.%s)",
+                    INDEX,
+                    field.name(),
+                    field.type(),
+                    String.join(", ", field.ignored()),
+                    String.join(", ", field.required()),
+                    this.getOrderExpression(field),
+                    field.priority(),
+                    field.owner(),
+                    field.name()
+                );
+            }
+
+            writer.printf("%n        );%n    }%n%n}%n");
+        }
+    }
+
+    /**
+     * Collects the loadable fields of the given loader, sorted by their loading priority.
+     * <p>
+     * Fields are collected in the same order as {@link Class#getFields()}, starting with the loader's own fields and
+     * followed by those of its superclasses.
+     *
+     * @param type The loader's type element.
+     * @param loader The {@code AutoLoader} class element.
+     * @param pkg The package that the index will be generated within.
+     *
+     * @return The loader's fields, or an empty optional if any of them are not accessible.
+     *
+     * @since 1.9.0
+     */
+    private Optional<List<IndexedField>> collectFields(TypeElement type, TypeElement loader, PackageElement pkg) {
+        final List<IndexedField> fields = new ArrayList<>();
+        TypeElement current = type;
+
+        while (current != null && !current.equals(loader)) {
+            for (final VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+                final Set<Modifier> modifiers = field.getModifiers();
+
+                if (!modifiers.containsAll(Set.of(Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL))) continue;
+                // Primitive fields can never be loaded.
+                if (field.asType().getKind().isPrimitive()) continue;
+
+                final Optional<List<TypeMirror>> ignored = this.getIgnored(field);
+
+                // Fields that are ignored within all environments are never loaded.
+                if (ignored.isPresent() && ignored.get().isEmpty()) continue;
+                if (!this.isAccessible(current, pkg) || !this.isAccessible(field.asType(), pkg)) {
+                    return Optional.empty();
+                }
+
+                final Optional<List<String>> ignoredNames = this.getClassLiterals(ignored.orElse(List.of()), pkg);
+                final Optional<List<String>> requiredNames = this.getClassLiterals(this.getRequired(field), pkg);
+
+                if (ignoredNames.isEmpty() || requiredNames.isEmpty()) return Optional.empty();
+
+                final String owner = current.getQualifiedName().toString();
+                final String name = field.getSimpleName().toString();
+                final String fieldType = this.getTypeName(field.asType());
+                final List<String> after = this.getIdentifiers(field, LOAD_AFTER);
+                final List<String> before = this.getIdentifiers(field, LOAD_BEFORE);
+                final int priority = this.getPriority(field);
+
+                fields.add(new IndexedField(
+                    owner, name, fieldType, ignoredNames.get(), requiredNames.get(), after, before, priority
+                ));
+            }
+
+            current = current.getSuperclass().getKind() == TypeKind.DECLARED
+                ? (TypeElement) ((DeclaredType) current.getSuperclass()).asElement()
+                : null;
+        }
+
+        // List sorting is stable, so fields with the same priority retain their relative order.
+        fields.sort(Comparator.comparingInt(IndexedField::priority).reversed());
+
+        return Optional.of(fields);
+    }
+
+    /**
+     * Returns the interfaces listed within the given field's {@code IgnoreLoading} annotation.
+     *
+     * @param field The field.
+     *
+     * @return The ignored interfaces, or an empty optional if the field is not annotated.
+     *
+     * @since 1.9.0
+     */
+    private Optional<List<TypeMirror>> getIgnored(VariableElement field) {
+        return this.findAnnotationValue(field, IGNORE_LOADING).map(this::getClassValues);
+    }
+
+    /**
+     * Returns the interfaces listed within the given field's {@code RestrictLoading} annotation, falling back to the
+     * annotation on the field's type.
+     *
+     * @param field The field.
+     *
+     * @return The required interfaces, or an empty list if the field is not restricted.
+     *
+     * @since 1.9.0
+     */
+    private List<TypeMirror> getRequired(VariableElement field) {
+        final Optional<AnnotationValue> value = this.findAnnotationValue(field, RESTRICT_LOADING);
+
+        if (value.isPresent()) return this.getClassValues(value.get());
+
+        if (field.asType() instanceof final DeclaredType declared) {
+            final Element element = declared.asElement();
+            final Optional<AnnotationValue> typeValue = this.findAnnotationValue(element, RESTRICT_LOADING);
+
+            if (typeValue.isPresent()) return this.getClassValues(typeValue.get());
+        }
+
+        return List.of();
+    }
+
+    /**
+     * Returns the identifiers listed within the given field's loading order annotation, falling back to the annotation
+     * on the field's type.
+     * <p>
+     * Invalid identifiers are reported as errors, while repeated identifiers are reported as warnings and dropped.
+     *
+     * @param field The field.
+     * @param annotation The annotation's qualified name.
+     *
+     * @return The listed identifiers without repeats, or an empty list if the field is not annotated.
+     *
+     * @since 1.9.0
+     */
+    @SuppressWarnings("unchecked")
+    private List<String> getIdentifiers(VariableElement field, String annotation) {
+        Optional<AnnotationValue> value = this.findAnnotationValue(field, annotation);
+
+        if (value.isEmpty() && field.asType() instanceof final DeclaredType declared) {
+            value = this.findAnnotationValue(declared.asElement(), annotation);
+        }
+
+        if (value.isEmpty()) return List.of();
+
+        // A single string may be written without enclosing braces.
+        final List<String> identifiers = value.get().getValue() instanceof final String string
+            ? List.of(string)
+            : ((List<? extends AnnotationValue>) value.get().getValue()).stream()
+                .map(element -> (String) element.getValue())
+                .toList();
+
+        final Set<String> distinct = new LinkedHashSet<>(identifiers.size());
+
+        for (final String identifier : identifiers) {
+            if (!distinct.add(identifier)) {
+                final String message = "Repeated loading order identifier '%s' in '%s'".formatted(identifier, field);
+
+                this.processingEnv.getMessager().printMessage(Kind.WARNING, message, field);
+            } else if (!IDENTIFIER.matcher(identifier).matches()) {
+                final String message = "Invalid loading order identifier '%s'".formatted(identifier);
+
+                this.processingEnv.getMessager().printMessage(Kind.ERROR, message, field);
+            }
+        }
+
+        return List.copyOf(distinct);
+    }
+
+    /**
+     * Returns the expression used to create the given field's loading order within generated code.
+     *
+     * @param field The field.
+     *
+     * @return The loading order expression.
+     *
+     * @since 1.9.0
+     */
+    private String getOrderExpression(IndexedField field) {
+        if (field.after().isEmpty() && field.before().isEmpty()) return LOAD_ORDER + ".NONE";
+
+        final String after = field.after().stream().map(id -> '"' + id + '"').collect(Collectors.joining(", "));
+        final String before = field.before().stream().map(id -> '"' + id + '"').collect(Collectors.joining(", "));
+
+        return "%s.parse(java.util.List.of(%s), java.util.List.of(%s))".formatted(LOAD_ORDER, after, before);
+    }
+
+    /**
+     * Returns the types listed within the given class array annotation value.
+     *
+     * @param value The annotation value.
+     *
+     * @return The listed types.
+     *
+     * @since 1.9.0
+     */
+    @SuppressWarnings("unchecked")
+    private List<TypeMirror> getClassValues(AnnotationValue value) {
+        // A single class literal may be written without enclosing braces.
+        if (value.getValue() instanceof final TypeMirror mirror) return List.of(mirror);
+
+        return ((List<? extends AnnotationValue>) value.getValue()).stream()
+            .map(element -> (TypeMirror) element.getValue())
+            .toList();
+    }
+
+    /**
+     * Returns the class literals used to reference the given types within generated code.
+     *
+     * @param mirrors The types.
+     * @param pkg The package that the index will be generated within.
+     *
+     * @return The class literals, or an empty optional if any of the types are not accessible.
+     *
+     * @since 1.9.0
+     */
+    private Optional<List<String>> getClassLiterals(List<TypeMirror> mirrors, PackageElement pkg) {
+        final List<String> literals = new ArrayList<>(mirrors.size());
+
+        for (final TypeMirror mirror : mirrors) {
+            if (!this.isAccessible(mirror, pkg)) return Optional.empty();
+
+            literals.add(this.getTypeName(mirror) + ".class");
+        }
+
+        return Optional.of(literals);
+    }
+
+    /**
+     * Returns the loading priority of the given field.
+     *
+     * @param field The field.
+     *
+     * @return The field's loading priority.
+     *
+     * @since 1.9.0
+     */
+    private int getPriority(VariableElement field) {
+        final Optional<AnnotationValue> value = this.findAnnotationValue(field, LOADING_PRIORITY);
+
+        if (value.isPresent()) return (Integer) value.get().getValue();
+
+        if (field.asType() instanceof final DeclaredType declared) {
+            final Element element = declared.asElement();
+            final Optional<AnnotationValue> typeValue = this.findAnnotationValue(element, LOADING_PRIORITY);
+
+            if (typeValue.isPresent()) return (Integer) typeValue.get().getValue();
+        }
+
+        return 0;
+    }
+
+    /**
+     * Returns the {@code value} of the given annotation on the given element.
+     *
+     * @param element The annotated element.
+     * @param annotation The annotation's qualified name.
+     *
+     * @return The annotation's value, or an empty optional if the element is not annotated.
+     *
+     * @since 1.9.0
+     */
+    private Optional<AnnotationValue> findAnnotationValue(Element element, String annotation) {
+        for (final AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            final TypeElement annotationType = (TypeElement) mirror.getAnnotationType().asElement();
+
+            if (!annotationType.getQualifiedName().contentEquals(annotation)) continue;
+
+            final Map<? extends ExecutableElement, ? extends AnnotationValue> values = mirror.getElementValues();
+
+            for (final Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : values.entrySet()) {
+                if (entry.getKey().getSimpleName().contentEquals("value")) return Optional.of(entry.getValue());
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * Returns whether the given type may be referenced from generated code within the given package.
+     *
+     * @param mirror The type.
+     * @param pkg The package.
+     *
+     * @return Whether the type is accessible.
+     *
+     * @since 1.9.0
+     */
+    private boolean isAccessible(TypeMirror mirror, PackageElement pkg) {
+        final TypeMirror erased = this.processingEnv.getTypeUtils().erasure(mirror);
+
+        if (erased instanceof final ArrayType array) return this.isAccessible(array.getComponentType(), pkg);
+        if (erased instanceof final DeclaredType declared) return this.isAccessible(declared.asElement(), pkg);
+
+        return erased.getKind().isPrimitive();
+    }
+
+    /**
+     * Returns whether the given element may be referenced from generated code within the given package.
+     *
+     * @param element The element.
+     * @param pkg The package.
+     *
+     * @return Whether the element is accessible.
+     *
+     * @since 1.9.0
+     */
+    private boolean isAccessible(Element element, PackageElement pkg) {
+        final boolean samePackage = this.processingEnv.getElementUtils().getPackageOf(element).equals(pkg);
+        Element current = element;
+
+        while (current instanceof TypeElement) {
+            final Set<Modifier> modifiers = current.getModifiers();
+
+            if (modifiers.contains(Modifier.PRIVATE)) return false;
+            if (!samePackage && !modifiers.contains(Modifier.PUBLIC)) return false;
+
+            current = current.getEnclosingElement();
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the name used to reference the erasure of the given type within generated code.
+     *
+     * @param mirror The type.
+     *
+     * @return The type's name.
+     *
+     * @since 1.9.0
+     */
+    private String getTypeName(TypeMirror mirror) {
+        final TypeMirror erased = this.processingEnv.getTypeUtils().erasure(mirror);
+
+        if (erased instanceof final ArrayType array) return this.getTypeName(array.getComponentType()) + "[]";
+        if (erased instanceof final DeclaredType declared) {
+            return ((TypeElement) declared.asElement()).getQualifiedName().toString();
+        }
+
+        return erased.toString();
+    }
+
+    /**
+     * A field that will be written into a generated index.
+     *
+     * @param owner The qualified name of the field's declaring class.
+     * @param name The field's name.
+     * @param type The qualified name of the field's erased type.
+     * @param ignored The class literals of the interfaces that the field should be skipped within.
+     * @param required The class literals of the interfaces that the field is restricted to.
+     * @param after The identifiers of the values that the field must be loaded after.
+     * @param before The identifiers of the values that the field must be loaded before.
+     * @param priority The field's loading priority.
+     *
+     * @author Jaxydog
+     * @since 1.9.0
+     */
+    private record IndexedField(
+        String owner,
+        String name,
+        String type,
+        List<String> ignored,
+        List<String> required,
+        List<String> after,
+        List<String> before,
+        int priority
+    ) {}
+
+}
@@ -0,0 +1,121 @@
+/*
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * Copyright © 2026 Jaxydog
+ *
+ * This file is part of Lodestone.
+ *
+ * Lodestone is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option)
+ * any later version.
+ *
+ * Lodestone is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for
+ * more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with Lodestone. If not, see
+ * <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.lodestone;
+
+import dev.jaxydog.lodestone.api.Loaded;
+import net.minecraft.util.Identifier;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests the order in which {@link Lodestone} loads mods asynchronously.
+ *
+ * @author Jaxydog
+ * @since 1.9.0
+ */
+final class LodestoneTest {
+
+    /**
+     * The paths of the loaded values, in the order that they were loaded.
+     *
+     * @since 1.9.0
+     */
+    private static final List<String> EVENTS = new CopyOnWriteArrayList<>();
+
+    /**
+     * Ensures that mods are loaded on the main thread in the requested order, even if their preparation finishes in a
+     * different order.
+     *
+     * @since 1.9.0
+     */
+    @Test
+    void queuedLoadsRunInRequestedOrder() {
+        final List<Runnable> tasks = new ArrayList<>();
+
+        Lodestone.createEnvironment(TestLoaded.class, TestLoaded::loadTest);
+        Lodestone.register(TestLoaded.class, new TestValue(Identifier.of("first", "value")));
+        Lodestone.register(TestLoaded.class, new TestValue(Identifier.of("second", "value")));
+        // Preparation is held back so that it can be finished in the reverse order.
+        Lodestone.setAsyncExecutor(tasks::add);
+
+        try {
+            final CompletableFuture<Void> future = Lodestone.loadAsync(TestLoaded.class, "first", "second");
+
+            for (final Runnable task : tasks.reversed()) task.run();
+
+            Lodestone.await(future);
+        } finally {
+            Lodestone.setAsyncExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        }
+
+        assertEquals(List.of("first", "second"), EVENTS);
+    }
+
+    /**
+     * A {@link Loaded} interface used only by these tests.
+     *
+     * @author Jaxydog
+     * @since 1.9.0
+     */
+    private interface TestLoaded
+        extends Loaded
+    {
+
+        /**
+         * Loads this value.
+         *
+         * @since 1.9.0
+         */
+        void loadTest();
+
+    }
+
+    /**
+     * A value that records when it is loaded.
+     *
+     * @param loaderId The value's loader identifier.
+     *
+     * @author Jaxydog
+     * @since 1.9.0
+     */
+    private record TestValue(Identifier loaderId)
+        implements TestLoaded
+    {
+
+        @Override
+        public Identifier getLoaderId() {
+            return this.loaderId();
+        }
+
+        @Override
+        public void loadTest() {
+            EVENTS.add(this.loaderId().getNamespace());
+        }
+
+    }
+
+}
@@ -0,0 +1,164 @@
+/*
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * Copyright © 2026 Jaxydog
+ *
+ * This file is part of Lodestone.
+ *
+ * Lodestone is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option)
+ * any later version.
+ *
+ * Lodestone is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for
+ * more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with Lodestone. If not, see
+ * <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.lodestone.api;
+
+import dev.jaxydog.lodestone.Lodestone;
+import net.minecraft.util.Identifier;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests the order in which an {@link AutoLoader} registers its values and runs its wrappers' load methods.
+ *
+ * @author Jaxydog
+ * @since 1.9.0
+ */
+final class AutoLoaderTest {
+
+    /**
+     * The identifier of the mod that registers every test value.
+     *
+     * @since 1.9.0
+     */
+    private static final String MOD_ID = "test";
+    /**
+     * The paths of the loaded values and run load methods, in the order that they happened.
+     *
+     * @since 1.9.0
+     */
+    private static final List<String> EVENTS = new CopyOnWriteArrayList<>();
+
+    /**
+     * Ensures that a wrapper's load methods run once its field is reached, rather than after the whole pass.
+     *
+     * @since 1.9.0
+     */
+    @Test
+    void wrapperMethodsRunWhereTheirFieldIsDeclared() {
+        Lodestone.createEnvironment(TestLoaded.class, TestLoaded::loadTest);
+
+        new TestLoader().register(TestLoaded.class);
+
+        Lodestone.load(TestLoaded.class, MOD_ID);
+
+        // The wrapper loads every value registered so far, which only includes the values declared before it.
+        assertEquals(List.of("first", "wrapper", "second"), EVENTS);
+    }
+
+    /**
+     * A {@link Loaded} interface used only by these tests.
+     *
+     * @author Jaxydog
+     * @since 1.9.0
+     */
+    private interface TestLoaded
+        extends Loaded
+    {
+
+        /**
+         * Loads this value.
+         *
+         * @since 1.9.0
+         */
+        void loadTest();
+
+    }
+
+    /**
+     * A value that records when it is loaded.
+     *
+     * @param loaderId The value's loader identifier.
+     *
+     * @author Jaxydog
+     * @since 1.9.0
+     */
+    private record TestValue(Identifier loaderId)
+        implements TestLoaded
+    {
+
+        /**
+         * Creates a new test value.
+         *
+         * @param path The path of the value's loader identifier.
+         *
+         * @since 1.9.0
+         */
+        private TestValue(String path) {
+            this(Identifier.of(MOD_ID, path));
+        }
+
+        @Override
+        public Identifier getLoaderId() {
+            return this.loaderId();
+        }
+
+        @Override
+        public void loadTest() {
+            EVENTS.add(this.loaderId().getPath());
+        }
+
+    }
+
+    /**
+     * A loader that declares a wrapper between two values.
+     *
+     * @author Jaxydog
+     * @since 1.9.0
+     */
+    public static final class TestLoader
+        extends AutoLoader
+    {
+
+        /**
+         * The value declared before the wrapper.
+         *
+         * @since 1.9.0
+         */
+        public static final TestValue FIRST = new TestValue("first");
+        /**
+         * A wrapper that loads every value registered before it is reached.
+         *
+         * @since 1.9.0
+         */
+        public static final AutoLoaded<String> WRAPPER = new AutoLoaded<>(Identifier.of(MOD_ID, "wrapper"), "wrapper")
+            .on(TestLoaded.class, self -> {
+                Lodestone.load(TestLoaded.class, MOD_ID);
+
+                EVENTS.add(self.getValue());
+            });
+        /**
+         * The value declared after the wrapper.
+         *
+         * @since 1.9.0
+         */
+        public static final TestValue SECOND = new TestValue("second");
+
+        @Override
+        public Identifier getLoaderId() {
+            return Identifier.of(MOD_ID, "loader");
+        }
+
+    }
+
+}
@@ -0,0 +1,164 @@
+/*
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * Copyright © 2026 Jaxydog
+ *
+ * This file is part of Lodestone.
+ *
+ * Lodestone is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option)
+ * any later version.
+ *
+ * Lodestone is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for
+ * more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with Lodestone. If not, see
+ * <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.lodestone.impl;
+
+import dev.jaxydog.lodestone.api.LoadOrder;
+import dev.jaxydog.lodestone.api.Loaded;
+import dev.jaxydog.lodestone.impl.LoadScheduler.Schedule;
+import net.minecraft.util.Identifier;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+/**
+ * Tests the order in which the {@link LoadScheduler} schedules entrypoints with loading order constraints.
+ *
+ * @author Jaxydog
+ * @since 1.9.0
+ */
+final class LoadSchedulerTest {
+
+    /**
+     * The identifier of the mod that registers every test value.
+     *
+     * @since 1.9.0
+     */
+    private static final String MOD_ID = "test";
+
+    /**
+     * Ensures that entrypoints load after and before their targets, and otherwise keep their registration order.
+     *
+     * @since 1.9.0
+     */
+    @Test
+    void constraintsOrderTheBatch() {
+        final EntrypointBucket<TestLoaded> bucket = new EntrypointBucket<>();
+
+        add(bucket, "first", LoadOrder.after(id("third")));
+        add(bucket, "second", LoadOrder.NONE);
+        add(bucket, "third", LoadOrder.before(id("second")));
+
+        final Schedule schedule = LoadScheduler.schedule(bucket, Set.of(), false);
+
+        assertArrayEquals(new int[] { 2, 0, 1 }, schedule.order());
+    }
+
+    /**
+     * Ensures that only entrypoints within a cycle are reported as cyclic, and that the entrypoints blocked by the
+     * cycle are scheduled in dependency order.
+     *
+     * @since 1.9.0
+     */
+    @Test
+    void cyclesAreSeparatedFromBlockedEntrypoints() {
+        final EntrypointBucket<TestLoaded> bucket = new EntrypointBucket<>();
+
+        add(bucket, "first", LoadOrder.after(id("second")));
+        add(bucket, "second", LoadOrder.after(id("first")));
+        add(bucket, "third", LoadOrder.after(id("fourth")));
+        add(bucket, "fourth", LoadOrder.after(id("second")));
+        add(bucket, "fifth", LoadOrder.NONE);
+
+        final Schedule schedule = LoadScheduler.schedule(bucket, Set.of(), false);
+
+        assertArrayEquals(new int[] { 4 }, schedule.order());
+        assertArrayEquals(new int[] { 0, 1 }, schedule.cyclic());
+        assertArrayEquals(new int[] { 3, 2 }, schedule.blocked());
+    }
+
+    /**
+     * Ensures that entrypoints waiting for a pending value are deferred along with their dependents, while missing
+     * values that are not pending are ignored.
+     *
+     * @since 1.9.0
+     */
+    @Test
+    void pendingTargetsDeferDependents() {
+        final EntrypointBucket<TestLoaded> bucket = new EntrypointBucket<>();
+
+        add(bucket, "first", LoadOrder.after(id("pending")));
+        add(bucket, "second", LoadOrder.after(id("first")));
+        add(bucket, "third", LoadOrder.after(id("missing")));
+
+        final Schedule schedule = LoadScheduler.schedule(bucket, Set.of(id("pending")), false);
+
+        assertArrayEquals(new int[] { 2 }, schedule.order());
+        assertArrayEquals(new int[] { 0, 1 }, schedule.deferred());
+        assertArrayEquals(new int[] { }, schedule.cyclic());
+    }
+
+    /**
+     * Creates a loader identifier for the test mod.
+     *
+     * @param path The identifier's path.
+     *
+     * @return The identifier.
+     *
+     * @since 1.9.0
+     */
+    private static Identifier id(String path) {
+        return Identifier.of(MOD_ID, path);
+    }
+
+    /**
+     * Adds a new test value to the given bucket.
+     *
+     * @param bucket The bucket.
+     * @param path The path of the value's loader identifier.
+     * @param order The value's loading order constraints.
+     *
+     * @since 1.9.0
+     */
+    private static void add(EntrypointBucket<TestLoaded> bucket, String path, LoadOrder order) {
+        bucket.add(new TestValue(id(path)), 0, order);
+    }
+
+    /**
+     * A {@link Loaded} interface used only by these tests.
+     *
+     * @author Jaxydog
+     * @since 1.9.0
+     */
+    private interface TestLoaded
+        extends Loaded
+    { }
+
+    /**
+     * A value that is only ever scheduled.
+     *
+     * @param loaderId The value's loader identifier.
+     *
+     * @author Jaxydog
+     * @since 1.9.0
+     */
+    private record TestValue(Identifier loaderId)
+        implements TestLoaded
+    {
+
+        @Override
+        public Identifier getLoaderId() {
+            return this.loaderId();
+        }
+
+    }
+
+}
@@ -0,0 +1,251 @@
+/*
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * Copyright © 2026 Jaxydog
+ *
+ * This file is part of Lodestone.
+ *
+ * Lodestone is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option)
+ * any later version.
+ *
+ * Lodestone is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for
+ * more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with Lodestone. If not, see
+ * <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.lodestone.impl;
+
+import dev.jaxydog.lodestone.api.Loaded;
+import net.minecraft.util.Identifier;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests the {@link LoaderEnvironmentRegistry}'s handling of concurrent registration and loading.
+ *
+ * @author Jaxydog
+ * @since 1.9.0
+ */
+final class LoaderEnvironmentRegistryTest {
+
+    /**
+     * The number of threads that register values concurrently.
+     *
+     * @since 1.9.0
+     */
+    private static final int REGISTERING_THREADS = 4;
+    /**
+     * The number of threads that load values concurrently.
+     *
+     * @since 1.9.0
+     */
+    private static final int LOADING_THREADS = 2;
+    /**
+     * The number of values registered by each registering thread.
+     *
+     * @since 1.9.0
+     */
+    private static final int VALUES_PER_THREAD = 10_000;
+
+    /**
+     * Ensures that no values are lost or loaded twice while they are registered and loaded at the same time.
+     *
+     * @throws Exception If any of the test's threads fail.
+     * @since 1.9.0
+     */
+    @RepeatedTest(5)
+    void concurrentRegistrationIsNeitherLostNorDuplicated() throws Exception {
+        final LoaderEnvironmentRegistry registry = createRegistry();
+        final List<TestValue> values = IntStream.range(0, REGISTERING_THREADS * VALUES_PER_THREAD)
+            .mapToObj(index -> new TestValue("value_" + index, false))
+            .toList();
+
+        final CountDownLatch ready = new CountDownLatch(1);
+        final AtomicBoolean registering = new AtomicBoolean(true);
+
+        try (final ExecutorService executor = Executors.newFixedThreadPool(REGISTERING_THREADS + LOADING_THREADS)) {
+            final List<Future<?>> registrations = new ArrayList<>(REGISTERING_THREADS);
+            final List<Future<?>> loads = new ArrayList<>(LOADING_THREADS);
+
+            for (int thread = 0; thread < REGISTERING_THREADS; thread += 1) {
+                final int from = thread * VALUES_PER_THREAD;
+
+                registrations.add(executor.submit(() -> {
+                    ready.await();
+
+                    for (int index = from; index < from + VALUES_PER_THREAD; index += 1) {
+                        registry.addEntrypoint(TestLoaded.class, values.get(index));
+                    }
+
+                    return null;
+                }));
+            }
+
+            for (int thread = 0; thread < LOADING_THREADS; thread += 1) {
+                loads.add(executor.submit(() -> {
+                    ready.await();
+
+                    while (registering.get()) registry.loadEntrypoints(TestLoaded.class, TestValue.MOD_ID);
+
+                    return null;
+                }));
+            }
+
+            ready.countDown();
+
+            for (final Future<?> future : registrations) future.get();
+
+            registering.set(false);
+
+            for (final Future<?> future : loads) future.get();
+        }
+
+        // Any values registered after the final concurrent load are picked up here.
+        registry.loadEntrypoints(TestLoaded.class, TestValue.MOD_ID);
+
+        for (final TestValue value : values) {
+            assertEquals(1, value.loads.get(), () -> "'%s' was not loaded exactly once".formatted(value.getLoaderId()));
+        }
+    }
+
+    /**
+     * Ensures that a failed load returns its unloaded values to the registry, without retrying the failed value.
+     *
+     * @since 1.9.0
+     */
+    @Test
+    void failedLoadRestoresUnloadedValues() {
+        final LoaderEnvironmentRegistry registry = createRegistry();
+        final List<TestValue> values = List.of(
+            new TestValue("first", false),
+            new TestValue("second", true),
+            new TestValue("third", false),
+            new TestValue("fourth", false)
+        );
+
+        for (final TestValue value : values) registry.addEntrypoint(TestLoaded.class, value);
+
+        assertThrows(IllegalStateException.class, () -> registry.loadEntrypoints(TestLoaded.class, TestValue.MOD_ID));
+
+        registry.loadEntrypoints(TestLoaded.class, TestValue.MOD_ID);
+
+        for (final TestValue value : values) {
+            assertEquals(1, value.loads.get(), () -> "'%s' was not loaded exactly once".formatted(value.getLoaderId()));
+        }
+    }
+
+    /**
+     * Creates a new registry containing the test environment.
+     *
+     * @return The registry.
+     *
+     * @since 1.9.0
+     */
+    private static LoaderEnvironmentRegistry createRegistry() {
+        final LoaderEnvironmentRegistry registry = LoaderEnvironmentRegistry.create();
+
+        registry.register(new LoaderEnvironment<>(TestLoaded.class, TestLoaded::loadTest));
+
+        return registry;
+    }
+
+    /**
+     * A {@link Loaded} interface used only by these tests.
+     *
+     * @author Jaxydog
+     * @since 1.9.0
+     */
+    private interface TestLoaded
+        extends Loaded
+    {
+
+        /**
+         * Loads this value.
+         *
+         * @since 1.9.0
+         */
+        void loadTest();
+
+    }
+
+    /**
+     * A value that counts the number of times it has been loaded.
+     *
+     * @author Jaxydog
+     * @since 1.9.0
+     */
+    private static final class TestValue
+        implements TestLoaded
+    {
+
+        /**
+         * The identifier of the mod that registers every test value.
+         *
+         * @since 1.9.0
+         */
+        private static final String MOD_ID = "test";
+
+        /**
+         * The value's loader identifier.
+         *
+         * @since 1.9.0
+         */
+        private final Identifier loaderId;
+        /**
+         * Whether the value throws when it is loaded.
+         *
+         * @since 1.9.0
+         */
+        private final boolean failing;
+        /**
+         * The number of times the value has been loaded.
+         *
+         * @since 1.9.0
+         */
+        private final AtomicInteger loads = new AtomicInteger();
+
+        /**
+         * Creates a new test value.
+         *
+         * @param path The path of the value's loader identifier.
+         * @param failing Whether the value throws when it is loaded.
+         *
+         * @since 1.9.0
+         */
+        private TestValue(String path, boolean failing) {
+            this.loaderId = Identifier.of(MOD_ID, path);
+            this.failing = failing;
+        }
+
+        @Override
+        public Identifier getLoaderId() {
+            return this.loaderId;
+        }
+
+        @Override
+        public void loadTest() {
+            this.loads.incrementAndGet();
+
+            if (this.failing) throw new IllegalStateException("Failed to load '%s'".formatted(this.loaderId));
+        }
+
+    }
+
+}
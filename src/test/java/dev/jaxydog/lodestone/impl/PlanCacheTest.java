@@ -0,0 +1,161 @@
+/*
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * Copyright © 2026 Jaxydog
+ *
+ * This file is part of Lodestone.
+ *
+ * Lodestone is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option)
+ * any later version.
+ *
+ * Lodestone is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for
+ * more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with Lodestone. If not, see
+ * <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.lodestone.impl;
+
+import dev.jaxydog.lodestone.Lodestone;
+import dev.jaxydog.lodestone.api.AutoLoader;
+import dev.jaxydog.lodestone.api.Loaded;
+import dev.jaxydog.lodestone.impl.PlanCache.CachedField;
+import net.minecraft.util.Identifier;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that {@link AutoLoader} plans survive a round trip through the {@link PlanCache}.
+ * <p>
+ * These tests require the {@code lodestone.cache} system property to be set to {@code true}.
+ *
+ * @author Jaxydog
+ * @since 1.9.0
+ */
+final class PlanCacheTest {
+
+    /**
+     * The identifier of the mod that registers every test value.
+     *
+     * @since 1.9.0
+     */
+    private static final String MOD_ID = "test";
+    /**
+     * The cache key used by these tests.
+     *
+     * @since 1.9.0
+     */
+    private static final byte[] KEY = new byte[32];
+
+    /**
+     * Ensures that a loader with a primitive constant is cached without it, so that its plan can be read back.
+     *
+     * @throws Exception If the cache could not be written or read, or a cached type could not be resolved.
+     * @since 1.9.0
+     */
+    @Test
+    void primitiveConstantsAreNotCached() throws Exception {
+        assertTrue(PlanCache.ENABLED);
+
+        Lodestone.createEnvironment(TestLoaded.class, TestLoaded::loadTest);
+
+        new TestLoader().register(TestLoaded.class);
+
+        final Path path = Files.createTempDirectory("lodestone").resolve("plans.bin");
+
+        PlanCache.save(path, KEY);
+        PlanCache.open(path, KEY);
+
+        final List<CachedField> fields = PlanCache.get(TestLoader.class.getName()).orElseThrow();
+
+        assertEquals(List.of("VALUE"), fields.stream().map(CachedField::name).toList());
+
+        // Cached plans are only used if every field's owner and type can be resolved again.
+        for (final CachedField field : fields) {
+            Class.forName(field.owner(), false, TestLoader.class.getClassLoader());
+            Class.forName(field.type(), false, TestLoader.class.getClassLoader());
+        }
+    }
+
+    /**
+     * A {@link Loaded} interface used only by these tests.
+     *
+     * @author Jaxydog
+     * @since 1.9.0
+     */
+    private interface TestLoaded
+        extends Loaded
+    {
+
+        /**
+         * Loads this value.
+         *
+         * @since 1.9.0
+         */
+        void loadTest();
+
+    }
+
+    /**
+     * A value that does nothing when loaded.
+     *
+     * @param loaderId The value's loader identifier.
+     *
+     * @author Jaxydog
+     * @since 1.9.0
+     */
+    private record TestValue(Identifier loaderId)
+        implements TestLoaded
+    {
+
+        @Override
+        public Identifier getLoaderId() {
+            return this.loaderId();
+        }
+
+        @Override
+        public void loadTest() {
+        }
+
+    }
+
+    /**
+     * A loader that declares a primitive constant alongside a value.
+     *
+     * @author Jaxydog
+     * @since 1.9.0
+     */
+    public static final class TestLoader
+        extends AutoLoader
+    {
+
+        /**
+         * A primitive constant, which can never be loaded.
+         *
+         * @since 1.9.0
+         */
+        public static final int COUNT = 1;
+        /**
+         * A loadable value.
+         *
+         * @since 1.9.0
+         */
+        public static final TestValue VALUE = new TestValue(Identifier.of(MOD_ID, "value"));
+
+        @Override
+        public Identifier getLoaderId() {
+            return Identifier.of(MOD_ID, "loader");
+        }
+
+    }
+
+}